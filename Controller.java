@@ -1,17 +1,25 @@
+import Model.FarmEngine;
+import Model.FarmStore;
 import Model.FarmerType;
+import Model.Harvest;
 import Model.MyFarm;
 import Model.Plants.*;
-import Model.Tools.*;
+import Model.Tools.ToolType;
 import Model.Tile;
 
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.awt.event.AdjustmentEvent;
+import java.awt.event.AdjustmentListener;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.BitSet;
 
 /**
  * This class represents the Controller in the MVC Architecture. It coordinates
@@ -21,25 +29,58 @@ import java.util.ArrayList;
  *     with the model in getting values and the view in displaying information,
  *     messages, and statuses.
  * </p>
+ * <p>
+ *     The game is saved as it is played: every action is appended to the journal of
+ *     the saved game, and a new snapshot is saved from time to time. If the game
+ *     cannot be saved, a message is displayed and the game goes on without saving.
+ * </p>
  */
-public class Controller implements ActionListener, DocumentListener {
+public class Controller implements ActionListener, AdjustmentListener, DocumentListener {
 
     private final MyFarmGUI myFarmGUI;
     private final MyFarm myFarm;
+    private final FarmEngine farmEngine;
+    private FarmStore farmStore = null;
 
     /**
-     * Creates a controller object.
+     * Creates a controller object for a new game, which is saved as it is played.
      * @param myFarmGUI  the view of the MVC architecture
      * @param myFarm     the model of the MVC architecture
      */
     public Controller(MyFarmGUI myFarmGUI, MyFarm myFarm) {
         this.myFarmGUI = myFarmGUI;
         this.myFarm = myFarm;
+        this.farmEngine = new FarmEngine(myFarm);
         this.initializeRocks();
 
+        // start saving the game once the rocks are placed
+        try {
+            this.farmStore = FarmStore.create(Path.of(FarmStore.DEFAULT_DIRECTORY), this.farmEngine);
+        } catch(IOException e) {
+            this.myFarmGUI.displayCannotSaveGame();
+        }
+
         // update view and set buttons' action listener
         updateView();
         myFarmGUI.setActionListener(this);
+        myFarmGUI.setAdjustmentListener(this);
+    }
+
+    /**
+     * Creates a controller object for a game recovered from its saved game.
+     * @param myFarmGUI  the view of the MVC architecture
+     * @param farmStore  the saved game, whose farm is the model of the MVC architecture
+     */
+    public Controller(MyFarmGUI myFarmGUI, FarmStore farmStore) {
+        this.myFarmGUI = myFarmGUI;
+        this.myFarm = farmStore.getMyFarm();
+        this.farmEngine = farmStore.getEngine();
+        this.farmStore = farmStore;
+
+        // update view and set buttons' action listener
+        updateView();
+        myFarmGUI.setActionListener(this);
+        myFarmGUI.setAdjustmentListener(this);
     }
 
     /**
@@ -52,13 +93,13 @@ public class Controller implements ActionListener, DocumentListener {
         ArrayList<String> rockPositions = new ArrayList<>();
         while(!fileExisting) {
             String filename = this.myFarmGUI.getFilename();
-            try {
-                BufferedReader reader = new BufferedReader(new FileReader(filename));
+            try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
                 String line;
                 while ((line = reader.readLine()) != null)
                     rockPositions.add(line);
                 fileExisting = true;
             } catch (IOException e) {
+                rockPositions.clear();
                 myFarmGUI.displayCannotReadFile();
             }
         }
@@ -71,18 +112,23 @@ public class Controller implements ActionListener, DocumentListener {
      * elements, and images present in the screen.
      */
     public void updateView() {
-        // update board stats
-        this.myFarm.getBoard().updateBoardStats(this.myFarm.getMAXROWS(),
-                                                this.myFarm.getMAXCOLUMNS());
-
-        // update graphics/view for each tile
-        for(int row = 0; row < myFarm.getMAXROWS(); row++) {
-            for(int col = 0; col < myFarm.getMAXCOLUMNS(); col++) {
-                Tile tile = this.myFarm.getBoard().getTile(row, col);
-                this.myFarmGUI.setTile(tile, row * this.myFarm.getMAXCOLUMNS() + col,
-                                       this.myFarm.getPlants());
-            }
+        // board stats are kept up to date by the board; recount them in debug mode
+        assert this.myFarm.getBoard().verifyBoardStats() : "Board stats are out of sync";
+
+        // update graphics/view only for the shown tiles that changed since the last
+        // update; the other tiles are drawn when they are scrolled into view
+        BitSet dirtyTiles = this.myFarm.getBoard().getDirtyTiles();
+        int columns = this.myFarm.getMAXCOLUMNS();
+        int firstColumn = this.myFarmGUI.getFirstVisibleColumn();
+        int lastRow = this.myFarmGUI.getFirstVisibleRow() + this.myFarmGUI.getVisibleRows();
+        for(int row = this.myFarmGUI.getFirstVisibleRow(); row < lastRow; row++) {
+            int end = row * columns + firstColumn + this.myFarmGUI.getVisibleColumns();
+            for(int index = dirtyTiles.nextSetBit(row * columns + firstColumn);
+                index >= 0 && index < end; index = dirtyTiles.nextSetBit(index + 1))
+                this.myFarmGUI.setTile(this.myFarm.getBoard().getTile(row, index % columns),
+                                       index);
         }
+        this.myFarm.getBoard().clearDirtyTiles();
 
         // update the text placed on the game and farmer stats
         this.myFarmGUI.setStatsText(this.myFarm.getCurrentDay(), this.myFarm.getBoard(),
@@ -95,23 +141,30 @@ public class Controller implements ActionListener, DocumentListener {
      */
     @Override
     public void actionPerformed(ActionEvent e) {
-        switch (e.getActionCommand()) {
-            case "..." -> this.viewButton(e);
-            case "Plow" -> this.plowButton();
-            case "Water" -> this.waterButton();
-            case "Fertilizer" -> this.fertilizerButton();
-            case "Pickaxe" -> this.pickaxeButton();
-            case "Shovel" -> this.shovelButton();
-            case "Plant" -> this.plantButton();
-            case "Next Day" -> this.nextDayButton();
-            case "Harvest" -> this.harvestButton();
-            case "Register" -> this.registerButton();
+        try {
+            switch (e.getActionCommand()) {
+                case "..." -> this.viewButton(e);
+                case "Plow" -> this.plowButton();
+                case "Water" -> this.waterButton();
+                case "Fertilizer" -> this.fertilizerButton();
+                case "Pickaxe" -> this.pickaxeButton();
+                case "Shovel" -> this.shovelButton();
+                case "Plant" -> this.plantButton();
+                case "Next Day" -> this.nextDayButton();
+                case "Harvest" -> this.harvestButton();
+                case "Register" -> this.registerButton();
+            }
+            if(this.farmStore != null)
+                this.farmStore.checkpointIfNeeded();
+        } catch(IOException | UncheckedIOException exception) {
+            this.stopSaving();
         }
         this.updateView();
 
         int gameChecker = myFarm.checkIfGameOver();
         if(gameChecker == 1 || gameChecker == 2) {
-            // end the game
+            // end the game; there is nothing left to recover
+            this.deleteSave();
             this.myFarmGUI.displayGameOver(gameChecker);
             this.myFarmGUI.setVisible(false);
 
@@ -124,19 +177,32 @@ public class Controller implements ActionListener, DocumentListener {
         }
     }
 
+    /**
+     * Draws the tiles that are scrolled into view when a scroll bar of the farm lot
+     * is moved.
+     * @param e the event to be processed
+     */
+    @Override
+    public void adjustmentValueChanged(AdjustmentEvent e) {
+        int columns = this.myFarm.getMAXCOLUMNS();
+        int firstColumn = this.myFarmGUI.getFirstVisibleColumn();
+        int lastColumn = firstColumn + this.myFarmGUI.getVisibleColumns();
+        int lastRow = this.myFarmGUI.getFirstVisibleRow() + this.myFarmGUI.getVisibleRows();
+        for(int row = this.myFarmGUI.getFirstVisibleRow(); row < lastRow; row++)
+            for(int col = firstColumn; col < lastColumn; col++)
+                this.myFarmGUI.setTile(this.myFarm.getBoard().getTile(row, col),
+                                       row * columns + col);
+    }
+
     /**
      * Sets the action to be performed when a view/info button is clicked.
      * @param e the event to be processed
      */
     public void viewButton(ActionEvent e) {
         // get row and column of the tile where the view button was selected
-        int row = 0, col = 0;
-        for(int index = 0; index < this.myFarmGUI.getViewButtons().size(); index++) {
-            if(e.getSource().equals(this.myFarmGUI.getViewButtons().get(index))) {
-                row = index / this.myFarm.getMAXCOLUMNS();
-                col = index % this.myFarm.getMAXCOLUMNS();
-            }
-        }
+        int index = this.myFarmGUI.getViewButtonIndex(e.getSource());
+        int row = index / this.myFarm.getMAXCOLUMNS();
+        int col = index % this.myFarm.getMAXCOLUMNS();
 
         // place the tile information in the information box
         Tile tile = this.myFarm.getBoard().getTile(row, col);
@@ -149,8 +215,7 @@ public class Controller implements ActionListener, DocumentListener {
      */
     public void plowButton() {
         // place plow information in the information box
-        Plow plow = new Plow();
-        this.myFarmGUI.setInfoText(plow.getToolInfo());
+        this.myFarmGUI.setInfoText(ToolType.PLOW.getTool().getToolInfo());
 
         // get the position of the tile to plow
         int row = this.myFarmGUI.getRow();
@@ -159,21 +224,10 @@ public class Controller implements ActionListener, DocumentListener {
             col = this.myFarmGUI.getColumn();
 
         if(row != -1 && col != -1) {
-            Tile tile = this.myFarm.getBoard().getTile(row, col);
-            if(this.myFarm.getFarmer().useTool(plow, tile, null)) {
-                // display plow use success message
-                this.myFarmGUI.setInfoText(tile.getTileInfo());
-                boolean leveledUp = this.myFarm.getFarmer().updateExpAndLevel(plow.getExpGain());
-                this.updateView();
-                this.myFarmGUI.displayPlowMessage(1);
-
-                // display leveled up message, if applicable
-                if(leveledUp)
-                    this.myFarmGUI.displayLeveledUp(this.myFarm.getFarmer().getLevel());
-            } else {
-                // display message if plowing was unsuccessful
-                this.myFarmGUI.displayPlowMessage(2);
-            }
+            int messageType = this.farmEngine.plow(row, col);
+            this.displayResult(row, col, messageType == 1);
+            this.myFarmGUI.displayPlowMessage(messageType);
+            this.displayLeveledUp();
         }
     }
 
@@ -182,8 +236,7 @@ public class Controller implements ActionListener, DocumentListener {
      */
     public void waterButton() {
         // place watering can information in the information box
-        WateringCan wateringCan = new WateringCan();
-        this.myFarmGUI.setInfoText(wateringCan.getToolInfo());
+        this.myFarmGUI.setInfoText(ToolType.WATERINGCAN.getTool().getToolInfo());
 
         // get position of the plant on a tile to water
         int row = this.myFarmGUI.getRow();
@@ -192,21 +245,10 @@ public class Controller implements ActionListener, DocumentListener {
             col = this.myFarmGUI.getColumn();
 
         if(row != -1 && col != -1) {
-            Tile tile = this.myFarm.getBoard().getTile(row, col);
-            if(this.myFarm.getFarmer().useTool(wateringCan, tile, tile.getCropPlanted())) {
-                // display watering can use success message
-                this.myFarmGUI.setInfoText(tile.getTileInfo());
-                boolean leveledUp = this.myFarm.getFarmer().updateExpAndLevel(wateringCan.getExpGain());
-                this.updateView();
-                this.myFarmGUI.displayWaterMessage(1);
-
-                // display leveled up message if applicable
-                if(leveledUp)
-                    this.myFarmGUI.displayLeveledUp(this.myFarm.getFarmer().getLevel());
-            } else {
-                // display message indicating unsuccessful watering process
-                this.myFarmGUI.displayWaterMessage(2);
-            }
+            int messageType = this.farmEngine.water(row, col);
+            this.displayResult(row, col, messageType == 1);
+            this.myFarmGUI.displayWaterMessage(messageType);
+            this.displayLeveledUp();
         }
     }
 
@@ -215,8 +257,7 @@ public class Controller implements ActionListener, DocumentListener {
      */
     public void fertilizerButton() {
         // display the fertilizer information in the information box
-        Fertilizer fertilizer = new Fertilizer();
-        this.myFarmGUI.setInfoText(fertilizer.getToolInfo());
+        this.myFarmGUI.setInfoText(ToolType.FERTILIZER.getTool().getToolInfo());
 
         // get the position of the plant/tile to fertilize
         int row = this.myFarmGUI.getRow();
@@ -225,32 +266,10 @@ public class Controller implements ActionListener, DocumentListener {
             col = this.myFarmGUI.getColumn();
 
         if(row != -1 && col != -1) {
-            Tile tile = this.myFarm.getBoard().getTile(row, col);
-            // check if farmer has enough objectcoins
-            if(this.myFarm.getFarmer().getObjectCoins() >= fertilizer.getCost()) {
-                // check if fertilizer use was successful
-                if(this.myFarm.getFarmer().useTool(fertilizer, tile, tile.getCropPlanted())) {
-                    // deduct amount from current objectcoins
-                    double currCoins = this.myFarm.getFarmer().getObjectCoins();
-                    this.myFarm.getFarmer().setObjectCoins(currCoins - fertilizer.getCost());
-
-                    // display fertilizer use success message
-                    this.myFarmGUI.setInfoText(tile.getTileInfo());
-                    boolean leveledUp = this.myFarm.getFarmer().updateExpAndLevel(fertilizer.getExpGain());
-                    this.updateView();
-                    this.myFarmGUI.displayFertilizerMessage(1);
-
-                    // display leveled up message if applicable
-                    if(leveledUp)
-                        this.myFarmGUI.displayLeveledUp(this.myFarm.getFarmer().getLevel());
-                } else {
-                    // display message indicating that the tile has no growing crop planted
-                    this.myFarmGUI.displayFertilizerMessage(2);
-                }
-            } else {
-                // display message indicating player doesn't have enough objectcoins
-                this.myFarmGUI.displayFertilizerMessage(3);
-            }
+            int messageType = this.farmEngine.fertilize(row, col);
+            this.displayResult(row, col, messageType == 1);
+            this.myFarmGUI.displayFertilizerMessage(messageType);
+            this.displayLeveledUp();
         }
     }
 
@@ -259,8 +278,7 @@ public class Controller implements ActionListener, DocumentListener {
      */
     public void pickaxeButton() {
         // display pickaxe information in the information box
-        Pickaxe pickaxe = new Pickaxe();
-        this.myFarmGUI.setInfoText(pickaxe.getToolInfo());
+        this.myFarmGUI.setInfoText(ToolType.PICKAXE.getTool().getToolInfo());
 
         // get tile position where the rock is located
         int row = this.myFarmGUI.getRow();
@@ -269,32 +287,10 @@ public class Controller implements ActionListener, DocumentListener {
             col = this.myFarmGUI.getColumn();
 
         if(row != -1 && col != -1) {
-            Tile tile = this.myFarm.getBoard().getTile(row, col);
-            // check if farmer has enough objectcoins
-            if(this.myFarm.getFarmer().getObjectCoins() >= pickaxe.getCost()) {
-                // check if the use of pickaxe was successful
-                if(this.myFarm.getFarmer().useTool(pickaxe, tile, null)) {
-                    // deduct tool cost
-                    double currCoins = this.myFarm.getFarmer().getObjectCoins();
-                    this.myFarm.getFarmer().setObjectCoins(currCoins - pickaxe.getCost());
-
-                    // display pickaxe  use success message
-                    this.myFarmGUI.setInfoText(tile.getTileInfo());
-                    boolean leveledUp = this.myFarm.getFarmer().updateExpAndLevel(pickaxe.getExpGain());
-                    this.updateView();
-                    this.myFarmGUI.displayPickaxeMessage(1);
-
-                    // display leveled up message if applicable
-                    if(leveledUp)
-                        this.myFarmGUI.displayLeveledUp(this.myFarm.getFarmer().getLevel());
-                } else {
-                    // display message about unsuccessful rock destroying
-                    this.myFarmGUI.displayPickaxeMessage(2);
-                }
-            } else {
-                // display message indicating insufficient objectcoins
-                this.myFarmGUI.displayPickaxeMessage(3);
-            }
+            int messageType = this.farmEngine.pickaxe(row, col);
+            this.displayResult(row, col, messageType == 1);
+            this.myFarmGUI.displayPickaxeMessage(messageType);
+            this.displayLeveledUp();
         }
     }
 
@@ -303,8 +299,7 @@ public class Controller implements ActionListener, DocumentListener {
      */
     public void shovelButton() {
         // display shovel information in the information box
-        Shovel shovel = new Shovel();
-        this.myFarmGUI.setInfoText(shovel.getToolInfo());
+        this.myFarmGUI.setInfoText(ToolType.SHOVEL.getTool().getToolInfo());
 
         // get tile position where the shovel will be used
         int row = this.myFarmGUI.getRow();
@@ -313,41 +308,10 @@ public class Controller implements ActionListener, DocumentListener {
             col = this.myFarmGUI.getColumn();
 
         if(row != -1 && col != -1) {
-            Tile tile = this.myFarm.getBoard().getTile(row, col);
-            // check if there is sufficient objectcoins
-            if(this.myFarm.getFarmer().getObjectCoins() >= shovel.getCost()) {
-                // get message type to display after shovel use
-                int messageType;
-                if(tile.getHasWitheredCrop())
-                    messageType = 1;
-                else if(tile.getHasRock() || !tile.getIsOccupied() && !tile.getIsPlowed())
-                    messageType = 2;
-                else
-                    messageType = 3;
-
-                // check if shovel use was successful
-                if(this.myFarm.getFarmer().useTool(shovel, tile, null)) {
-                    // if used on eligible tiles, deduct amount
-                    double currCoins = this.myFarm.getFarmer().getObjectCoins();
-                    this.myFarm.getFarmer().setObjectCoins(currCoins - shovel.getCost());
-
-                    // display shovel use success message
-                    this.myFarmGUI.setInfoText(tile.getTileInfo());
-                    boolean leveledUp = this.myFarm.getFarmer().updateExpAndLevel(shovel.getExpGain());
-                    this.updateView();
-                    this.myFarmGUI.displayShovelMessage(messageType);
-
-                    // update exp and level
-                    if(leveledUp)
-                        this.myFarmGUI.displayLeveledUp(this.myFarm.getFarmer().getLevel());
-                } else {
-                    // display message indicating that the tool cannot be used on the tile
-                    this.myFarmGUI.displayShovelMessage(4);
-                }
-            } else {
-                // display insufficient objectcoins message
-                this.myFarmGUI.displayShovelMessage(5);
-            }
+            int messageType = this.farmEngine.shovel(row, col);
+            this.displayResult(row, col, messageType <= 3);
+            this.myFarmGUI.displayShovelMessage(messageType);
+            this.displayLeveledUp();
         }
     }
 
@@ -357,24 +321,14 @@ public class Controller implements ActionListener, DocumentListener {
     public void plantButton() {
         // get plant choice
         int plantChoice, confirm = 0;
-        Plant seedToPlant = null;
+        PlantList seedToPlant = null;
         do {
             plantChoice = this.myFarmGUI.getPlantChoice(this.myFarm.getPlants());
             if(plantChoice != -1) {
                 // display plant information
-                switch(plantChoice) {
-                    case 0 -> seedToPlant = new Turnip();
-                    case 1 -> seedToPlant = new Carrot();
-                    case 2 -> seedToPlant = new Potato();
-                    case 3 -> seedToPlant = new Rose();
-                    case 4 -> seedToPlant = new Turnips();
-                    case 5 -> seedToPlant = new Sunflower();
-                    case 6 -> seedToPlant = new Mango();
-                    case 7 -> seedToPlant = new Apple();
-                }
-                assert seedToPlant != null;
-                String plantInfo = seedToPlant.getPlantInfo();
-                this.myFarmGUI.setInfoText(plantInfo);
+                Plant plant = this.myFarm.getPlants().get(plantChoice);
+                seedToPlant = plant.getName();
+                this.myFarmGUI.setInfoText(plant.getPlantInfo());
                 confirm = this.myFarmGUI.getConfirmation();
             } else {
                 break;
@@ -383,38 +337,18 @@ public class Controller implements ActionListener, DocumentListener {
 
         if(plantChoice != -1 && confirm != -1) {
             // check if there is sufficient objectcoins amount to buy the seed
-            if (this.myFarm.getFarmer().getObjectCoins() >=
-                (seedToPlant.getSeedCost() + this.myFarm.getFarmer().getSeedCostReduction())) {
+            if(this.farmEngine.canAffordSeed(seedToPlant)) {
                 // get tile position
                 int row = this.myFarmGUI.getRow();
                 int col = -1;
                 if(row != -1)
                     col = this.myFarmGUI.getColumn();
 
-                if (row != -1 && col != -1) {
-                    // check if the tile can be planted with the provided seed choice
-                    if (!seedToPlant.getCropType().equals("Fruit Tree") ||
-                        this.myFarm.getBoard().canPlantFruit(row, col, this.myFarm.getMAXROWS(),
-                                                             this.myFarm.getMAXCOLUMNS())) {
-                        Tile tile = this.myFarm.getBoard().getTile(row, col);
-                        // get message type to display after planting process
-                        int messageType;
-                        if(tile.getIsOccupied())
-                            messageType = 1;
-                        else if(!tile.getIsPlowed())
-                            messageType = 2;
-                        else
-                            messageType = 3;
-
-                        // plant seed and display planting message
-                        this.myFarm.getFarmer().plantSeed(seedToPlant, tile);
-                        this.myFarmGUI.setInfoText(tile.getTileInfo());
-                        this.updateView();
-                        this.myFarmGUI.displayPlantMessage(messageType);
-                    } else {
-                        // display message indicating that the seed cannot be planted on the tile
-                        this.myFarmGUI.displayPlantMessage(4);
-                    }
+                if(row != -1 && col != -1) {
+                    // plant seed and display planting message
+                    int messageType = this.farmEngine.plant(seedToPlant, row, col);
+                    this.displayResult(row, col, messageType <= 3);
+                    this.myFarmGUI.displayPlantMessage(messageType);
                 }
             } else {
                 // display message indicating that the user doesn't have enough objectcoins
@@ -427,25 +361,8 @@ public class Controller implements ActionListener, DocumentListener {
      * Sets the action to be performed when the next day button is clicked.
      */
     public void nextDayButton() {
-        // increment day
-        this.myFarm.setCurrentDay(this.myFarm.getCurrentDay() + 1);
-
-        // check each tile on the board if they have a crop planted
-        for(int row = 0; row < this.myFarm.getMAXROWS(); row++) {
-            for(int col = 0; col < this.myFarm.getMAXCOLUMNS(); col++) {
-                Tile tile = this.myFarm.getBoard().getTile(row, col);
-                if(tile.getHasCrop()) {
-                    tile.getCropPlanted().addCurrentGrowthDays();
-                    if(tile.getCropPlanted().getGrowthDaysLeft() > 0)
-                        tile.getCropPlanted().reduceGrowthDaysLeft();
-
-                    // update tile and plant status, if applicable
-                    tile.updateTileStatus();
-                    this.myFarmGUI.setInfoText(tile.getTileInfo());
-                    this.updateView();
-                }
-            }
-        }
+        // advance every crop on the board; the view is updated once afterwards
+        this.farmEngine.advanceDay();
     }
 
     /**
@@ -461,26 +378,15 @@ public class Controller implements ActionListener, DocumentListener {
                 col = this.myFarmGUI.getColumn();
 
             if(row != -1 && col != -1) {
-                Tile tile = this.myFarm.getBoard().getTile(row, col);
-                // check if the chosen tile has a fully grown crop
-                if (tile.getHasCrop() && tile.getHasFullyGrownCrop() &&
-                    !tile.getHasWitheredCrop()) {
-                    Plant plant = tile.getCropPlanted();
-
-                    // harvest the plant, and display harvest details
-                    this.myFarm.getFarmer().harvestPlant(tile, plant);
-                    this.myFarmGUI.setInfoText(this.myFarm.getFarmer().getHarvestDetails(plant));
-                    boolean leveledUp = this.myFarm.getFarmer().updateExpAndLevel(plant.getExpYield());
+                int messageType = this.farmEngine.harvest(row, col);
+                if(messageType == 1) {
+                    // display harvest details
+                    Harvest harvest = this.farmEngine.getLastHarvest();
+                    this.myFarmGUI.setInfoText(this.myFarm.getFarmer().getHarvestDetails(harvest));
                     this.updateView();
-                    this.myFarmGUI.displayHarvestMessage(1);
-
-                    // update exp, level, and the view
-                    if(leveledUp)
-                        this.myFarmGUI.displayLeveledUp(this.myFarm.getFarmer().getLevel());
-                } else {
-                    // display message indicating that the tile has no fully-grown crop
-                    this.myFarmGUI.displayHarvestMessage(2);
                 }
+                this.myFarmGUI.displayHarvestMessage(messageType);
+                this.displayLeveledUp();
             }
         } else {
             // display message indicating that there is no fully-grown crop in the farm lot
@@ -517,35 +423,72 @@ public class Controller implements ActionListener, DocumentListener {
         } while(confirm == 1);
 
         if(farmerType != null && confirm != -1 && confirm != 1) {
-            // check if farmer can register
-            int messageType;
-            if (farmerType == this.myFarm.getFarmer().getType())
-                messageType = 1;
-            else if (farmerType.getRegistrationFee() <
-                    this.myFarm.getFarmer().getType().getRegistrationFee())
-                messageType = 2;
-            else if (this.myFarm.getFarmer().getObjectCoins() < farmerType.getRegistrationFee())
-                messageType = 3;
-            else if (this.myFarm.getFarmer().getLevel() < farmerType.getLevelRequirement())
-                // if player doesn't meet with the level requirement
-                messageType = 4;
-            else {
-                // if all conditions are met and farmer is eligible
-                this.myFarm.getFarmer().upgradeFarmer(farmerType);
-                messageType = 5;
+            // register the farmer, if eligible, and display message
+            int messageType = this.farmEngine.register(farmerType);
+            if(messageType == 5)
                 this.updateView();
-            }
-
-            // display message
             this.myFarmGUI.displayRegistrationMessage(messageType);
         }
     }
 
+    /**
+     * Displays the tile information and updates the view after an action on a tile,
+     * if the action changed the tile.
+     * @param row       the row of the tile
+     * @param col       the column of the tile
+     * @param success   whether the action was done on the tile
+     */
+    private void displayResult(int row, int col, boolean success) {
+        if(success) {
+            this.myFarmGUI.setInfoText(this.myFarm.getBoard().getTile(row, col).getTileInfo());
+            this.updateView();
+        }
+    }
+
+    /**
+     * Displays the leveled up message if the farmer leveled up from the last action.
+     */
+    private void displayLeveledUp() {
+        if(this.farmEngine.hasLeveledUp())
+            this.myFarmGUI.displayLeveledUp(this.myFarm.getFarmer().getLevel());
+    }
+
+    /**
+     * Stops saving the game after the saved game could not be written, and displays
+     * a message.
+     */
+    private void stopSaving() {
+        try {
+            this.farmStore.close();
+        } catch(IOException e) {
+            // the saved game is dropped either way
+        }
+        this.farmStore = null;
+        this.myFarmGUI.displayCannotSaveGame();
+    }
+
+    /**
+     * Deletes the saved game, if the game is being saved.
+     */
+    private void deleteSave() {
+        if(this.farmStore != null) {
+            try {
+                this.farmStore.delete();
+            } catch(IOException e) {
+                this.myFarmGUI.displayCannotSaveGame();
+            }
+            this.farmStore = null;
+        }
+    }
+
     /**
      * Creates a new game.
      */
     public void newGame() {
-        Controller controller = new Controller(new MyFarmGUI(), new MyFarm());
+        int rows = this.myFarm.getMAXROWS();
+        int columns = this.myFarm.getMAXCOLUMNS();
+        Controller controller = new Controller(new MyFarmGUI(rows, columns),
+                                               new MyFarm(rows, columns));
     }
 
     /**
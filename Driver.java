@@ -1,5 +1,9 @@
+import Model.FarmStore;
 import Model.MyFarm;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 /**
  * This class represents the Driver of the program, which is responsible for starting and
  * ending the program. As the driver of the program, it contains the main method.
@@ -8,11 +12,48 @@ public class Driver {
 
     /**
      * Starts and ends the program.
-     * @param args arguments passed into the main function
+     * If there is a saved game, it is recovered and played instead of a new game.
+     * @param args arguments passed into the main function; optionally, the number of
+     *             rows and columns of the farm lot of a new game (e.g., {@code 20 40})
      */
     public static void main(String[] args) {
-        MyFarmGUI myFarmGUI = new MyFarmGUI();
-        MyFarm myFarm = new MyFarm();
-        Controller controller = new Controller(myFarmGUI, myFarm);
+        // get the size of the farm lot, if provided
+        int rows = MyFarm.DEFAULT_ROWS;
+        int columns = MyFarm.DEFAULT_COLUMNS;
+        if(args.length >= 2) {
+            try {
+                rows = Integer.parseInt(args[0]);
+                columns = Integer.parseInt(args[1]);
+            } catch(NumberFormatException e) {
+                rows = 0;
+            }
+            if(rows <= 0 || columns <= 0 || (long)rows * columns > Integer.MAX_VALUE) {
+                System.err.println("Invalid farm lot size: " + args[0] + "x" + args[1]);
+                System.err.println("Usage: java Driver [rows columns], where rows and columns" +
+                                   " are positive numbers");
+                System.exit(1);
+            }
+        }
+
+        // continue the saved game, if there is one
+        FarmStore farmStore = null;
+        boolean cannotLoadGame = false;
+        try {
+            farmStore = FarmStore.recover(Path.of(FarmStore.DEFAULT_DIRECTORY));
+        } catch(IOException | RuntimeException e) {
+            cannotLoadGame = true;
+        }
+
+        if(farmStore != null) {
+            MyFarm myFarm = farmStore.getMyFarm();
+            MyFarmGUI myFarmGUI = new MyFarmGUI(myFarm.getMAXROWS(), myFarm.getMAXCOLUMNS());
+            Controller controller = new Controller(myFarmGUI, farmStore);
+        } else {
+            MyFarm myFarm = new MyFarm(rows, columns);
+            MyFarmGUI myFarmGUI = new MyFarmGUI(rows, columns);
+            if(cannotLoadGame)
+                myFarmGUI.displayCannotLoadGame();
+            Controller controller = new Controller(myFarmGUI, myFarm);
+        }
     }
 }
@@ -0,0 +1,584 @@
+package Model;
+
+import Model.Plants.PlantList;
+import Model.Tools.ToolType;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.zip.CRC32C;
+
+/**
+ * This class represents an append-only journal of the actions done on a farm, which
+ * is written ahead of the next snapshot so that a game can be recovered after a
+ * crash by loading its last snapshot and replaying the actions done since.
+ * <p>
+ *     Every action that changes the farm (using a tool, planting, harvesting,
+ *     registering, and advancing the day) is written as a fixed-size record of 16
+ *     bytes: the kind of action, its argument (the plant, farmer type, or tool), the
+ *     row and column of the tile (or the number of days), and a CRC-32C checksum of
+ *     the record and its sequence number. A batch of tool uses is written as a batch
+ *     record followed by one record for each range of tiles.
+ * </p>
+ * <p>
+ *     Each record is handed to the operating system as soon as it is appended, so
+ *     it is kept even if the game crashes. The records are forced to the disk in
+ *     groups, once enough records were appended or enough time has passed since the
+ *     last force, so an action only costs a small write and at most the last group
+ *     can be lost if the whole computer goes down. A record that was only partly
+ *     written fails its checksum, and the journal ends at the last complete record.
+ * </p>
+ */
+public final class ActionJournal implements Closeable {
+
+    // the first four bytes of every journal, and the version of the format
+    static final int MAGIC = 0x4C4A464D; // "MFJL"
+    static final short VERSION = 1;
+
+    // sizes of the header and of a record, in bytes
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 16;
+
+    // kinds of records
+    static final int PLOW = 1;
+    static final int WATER = 2;
+    static final int FERTILIZE = 3;
+    static final int PICKAXE = 4;
+    static final int SHOVEL = 5;
+    static final int PLANT = 6;
+    static final int HARVEST = 7;
+    static final int REGISTER = 8;
+    static final int NEXT_DAY = 9;
+    static final int ADVANCE_DAYS = 10;
+    static final int BATCH = 11;
+    static final int BATCH_RANGE = 12;
+
+    // default number of records and time between forces to the disk
+    public static final int DEFAULT_GROUP_SIZE = 256;
+    public static final long DEFAULT_SYNC_INTERVAL_MILLIS = 100;
+
+    // attributes
+    private final FileChannel channel;
+    private final long firstSequence;
+    private final int groupSize;
+    private final long syncIntervalNanos;
+    private final ByteBuffer buffer;
+    private final byte[] checksumBytes;
+    private final CRC32C checksum;
+    private long nextSequence;
+    private int unsyncedCount = 0;
+    private long lastSyncTime;
+
+    /**
+     * Creates a journal that appends records to the given channel.
+     * @param channel            the channel of the journal file, at its end
+     * @param firstSequence      the sequence number of the first record of the journal
+     * @param recordCount        the number of records already in the journal
+     * @param groupSize          the number of records forced to the disk together
+     * @param syncIntervalMillis the longest time between forces to the disk
+     */
+    private ActionJournal(FileChannel channel, long firstSequence, long recordCount,
+                          int groupSize, long syncIntervalMillis) {
+        this.channel = channel;
+        this.firstSequence = firstSequence;
+        this.nextSequence = firstSequence + recordCount;
+        this.groupSize = groupSize;
+        this.syncIntervalNanos = syncIntervalMillis * 1_000_000L;
+        this.buffer = ByteBuffer.allocateDirect(RECORD_SIZE * 64).order(ByteOrder.LITTLE_ENDIAN);
+        this.checksumBytes = new byte[Long.BYTES + RECORD_SIZE - Integer.BYTES];
+        this.checksum = new CRC32C();
+        this.lastSyncTime = System.nanoTime();
+    }
+
+    /**
+     * Creates a new, empty journal file, replacing the file if it exists. The
+     * journal is forced to the disk before it is returned.
+     * @param file           the journal file
+     * @param firstSequence  the sequence number of the first record of the journal,
+     *                       which is the number of records written before it
+     * @return the journal.
+     * @throws IOException if the journal file cannot be created
+     */
+    public static ActionJournal create(Path file, long firstSequence) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                                               StandardOpenOption.TRUNCATE_EXISTING,
+                                               StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC);
+            header.putShort(VERSION);
+            header.putShort((short)0);
+            header.putLong(firstSequence);
+            header.rewind();
+            while(header.hasRemaining())
+                channel.write(header);
+            channel.force(true);
+        } catch(IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new ActionJournal(channel, firstSequence, 0, DEFAULT_GROUP_SIZE,
+                                 DEFAULT_SYNC_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Opens an existing journal file to append more records to it. Anything after
+     * the last complete record (e.g., a record that was being written when the game
+     * crashed) is cut off first.
+     * @param file the journal file
+     * @return the journal.
+     * @throws IOException if the file cannot be opened or is not a journal
+     */
+    public static ActionJournal open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ,
+                                               StandardOpenOption.WRITE);
+        try {
+            long firstSequence = readHeader(channel);
+            long recordCount = countRecords(channel, firstSequence);
+            long end = HEADER_SIZE + recordCount * RECORD_SIZE;
+            if(channel.size() > end) {
+                channel.truncate(end);
+                channel.force(true);
+            }
+            channel.position(end);
+            return new ActionJournal(channel, firstSequence, recordCount, DEFAULT_GROUP_SIZE,
+                                     DEFAULT_SYNC_INTERVAL_MILLIS);
+        } catch(IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Replays every record of the journal on the given engine, in order. The engine
+     * should be on the farm the journal was started from, and should not have a
+     * journal of its own while the records are replayed.
+     * @param engine the engine where the actions are done again
+     * @return the number of actions replayed.
+     * @throws IOException if the journal cannot be read
+     */
+    public long replay(FarmEngine engine) throws IOException {
+        this.flush();
+        ByteBuffer records = readRecords(this.channel, this.getRecordCount());
+        long actionCount = 0;
+        for(int position = 0; position < records.limit(); actionCount++)
+            position = applyRecord(engine, records, position);
+        return actionCount;
+    }
+
+    /**
+     * Appends the record of a tool used on a tile.
+     * @param type  the type of tool used
+     * @param row   the row of the tile
+     * @param col   the column of the tile
+     * @throws UncheckedIOException if the record cannot be written
+     */
+    void appendToolUse(ToolType type, int row, int col) {
+        this.put(getRecordType(type), 0, row, col);
+        this.write();
+    }
+
+    /**
+     * Appends the record of a seed planted on a tile.
+     * @param plant  the plant whose seed was planted
+     * @param row    the row of the tile
+     * @param col    the column of the tile
+     * @throws UncheckedIOException if the record cannot be written
+     */
+    void appendPlant(PlantList plant, int row, int col) {
+        this.put(PLANT, plant.getId(), row, col);
+        this.write();
+    }
+
+    /**
+     * Appends the record of a crop harvested from a tile.
+     * @param row  the row of the tile
+     * @param col  the column of the tile
+     * @throws UncheckedIOException if the record cannot be written
+     */
+    void appendHarvest(int row, int col) {
+        this.put(HARVEST, 0, row, col);
+        this.write();
+    }
+
+    /**
+     * Appends the record of the farmer registering to a farmer type.
+     * @param farmerType the farmer type registered to
+     * @throws UncheckedIOException if the record cannot be written
+     */
+    void appendRegister(FarmerType farmerType) {
+        this.put(REGISTER, farmerType.ordinal(), 0, 0);
+        this.write();
+    }
+
+    /**
+     * Appends the record of the game being advanced to the next day.
+     * @throws UncheckedIOException if the record cannot be written
+     */
+    void appendNextDay() {
+        this.put(NEXT_DAY, 0, 0, 0);
+        this.write();
+    }
+
+    /**
+     * Appends the record of the game being advanced by a number of days in one step.
+     * @param days the number of days
+     * @throws UncheckedIOException if the record cannot be written
+     */
+    void appendAdvanceDays(int days) {
+        this.put(ADVANCE_DAYS, 0, days, 0);
+        this.write();
+    }
+
+    /**
+     * Appends the records of a tool used on a batch of tiles: the batch record,
+     * followed by a record for each range of consecutive tiles. All the records are
+     * written together.
+     * @param type   the type of tool used
+     * @param tiles  the indices of the tiles (row * columns + column)
+     * @throws UncheckedIOException if the records cannot be written
+     */
+    void appendBatch(ToolType type, BitSet tiles) {
+        int rangeCount = 0;
+        for(int from = tiles.nextSetBit(0); from >= 0; from = tiles.nextSetBit(tiles.nextClearBit(from)))
+            rangeCount++;
+
+        this.put(BATCH, getRecordType(type), rangeCount, 0);
+        for(int from = tiles.nextSetBit(0); from >= 0; from = tiles.nextSetBit(from)) {
+            int to = tiles.nextClearBit(from);
+            if(!this.buffer.hasRemaining())
+                this.flushUnchecked();
+            this.put(BATCH_RANGE, 0, from, to);
+            from = to;
+        }
+        this.write();
+    }
+
+    /**
+     * Writes every appended record to the journal file and forces them to the disk.
+     * @throws IOException if the records cannot be written
+     */
+    public void sync() throws IOException {
+        this.flush();
+        this.channel.force(false);
+        this.unsyncedCount = 0;
+        this.lastSyncTime = System.nanoTime();
+    }
+
+    /**
+     * Forces the records to the disk and closes the journal file.
+     * @throws IOException if the records cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if(this.channel.isOpen())
+                this.sync();
+        } finally {
+            this.channel.close();
+        }
+    }
+
+    /**
+     * Gets the sequence number of the next record, which is the number of records
+     * written to this journal and to the journals before it.
+     * @return the sequence number of the next record.
+     */
+    public long getNextSequence() {
+        return nextSequence;
+    }
+
+    /**
+     * Gets the number of records in this journal.
+     * @return the number of records.
+     */
+    public long getRecordCount() {
+        return this.nextSequence - this.firstSequence;
+    }
+
+    /**
+     * Puts a record in the buffer, followed by its checksum.
+     * @param type      the kind of record
+     * @param argument  the plant, farmer type, or tool of the record
+     * @param row       the row of the tile, or the number of the record's items
+     * @param col       the column of the tile, or the end of the record's range
+     */
+    private void put(int type, int argument, int row, int col) {
+        long sequence = this.nextSequence++;
+        this.buffer.put((byte)type);
+        this.buffer.put((byte)argument);
+        this.buffer.putShort((short)0);
+        this.buffer.putInt(row);
+        this.buffer.putInt(col);
+        this.buffer.putInt(getChecksum(this.checksum, this.checksumBytes, sequence,
+                                       type, argument, row, col));
+        this.unsyncedCount++;
+    }
+
+    /**
+     * Writes the appended records to the journal file, and forces them to the disk
+     * if the group is full or the last force was long enough ago.
+     * @throws UncheckedIOException if the records cannot be written
+     */
+    private void write() {
+        try {
+            this.flush();
+            if(this.unsyncedCount >= this.groupSize ||
+               System.nanoTime() - this.lastSyncTime >= this.syncIntervalNanos)
+                this.sync();
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the appended records to the journal file, without forcing them.
+     * @throws UncheckedIOException if the records cannot be written
+     */
+    private void flushUnchecked() {
+        try {
+            this.flush();
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the appended records to the journal file, without forcing them.
+     * @throws IOException if the records cannot be written
+     */
+    private void flush() throws IOException {
+        this.buffer.flip();
+        while(this.buffer.hasRemaining())
+            this.channel.write(this.buffer);
+        this.buffer.clear();
+    }
+
+    /**
+     * Reads the complete records of a journal file, without opening the journal to
+     * append to it. This is how a recorded game is read to be replayed.
+     * @param file the journal file
+     * @return the records, in little-endian order.
+     * @throws IOException if the file cannot be read or is not a journal
+     */
+    static ByteBuffer readRecords(Path file) throws IOException {
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long firstSequence = readHeader(channel);
+            return readRecords(channel, countRecords(channel, firstSequence));
+        }
+    }
+
+    /**
+     * Does the action of the record at the given position on the engine. The ranges
+     * of tiles of a batch are read along with its record.
+     * @param engine    the engine where the action is done
+     * @param records   the records, in little-endian order
+     * @param position  the position of the record in the records
+     * @return the position of the next record.
+     */
+    static int applyRecord(FarmEngine engine, ByteBuffer records, int position) {
+        int type = records.get(position);
+        int argument = records.get(position + 1);
+        int row = records.getInt(position + 4);
+        int col = records.getInt(position + 8);
+        if(type != BATCH) {
+            apply(engine, type, argument, row, col);
+            return position + RECORD_SIZE;
+        }
+
+        // the ranges of tiles of the batch follow its record
+        BitSet tiles = new BitSet();
+        for(int range = 1; range <= row; range++)
+            tiles.set(records.getInt(position + range * RECORD_SIZE + 4),
+                      records.getInt(position + range * RECORD_SIZE + 8));
+        engine.batchUseTool(getToolType(argument), tiles);
+        return position + (row + 1) * RECORD_SIZE;
+    }
+
+    /**
+     * Reads the given number of records of a journal file into memory.
+     * @param channel      the channel of the journal file
+     * @param recordCount  the number of records
+     * @return the records, in little-endian order.
+     * @throws IOException if the records cannot be read
+     */
+    private static ByteBuffer readRecords(FileChannel channel, long recordCount) throws IOException {
+        if(recordCount > Integer.MAX_VALUE / RECORD_SIZE)
+            throw new IOException("The journal is too large to replay: " + recordCount + " records");
+
+        ByteBuffer records = ByteBuffer.allocate((int)recordCount * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while(records.hasRemaining())
+            if(channel.read(records, HEADER_SIZE + records.position()) < 0)
+                throw new EOFException("The journal ends too early");
+        records.flip();
+        return records;
+    }
+
+    /**
+     * Reads and checks the header of a journal file.
+     * @param channel the channel of the journal file
+     * @return the sequence number of the first record of the journal.
+     * @throws IOException if the file is not a journal
+     */
+    private static long readHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while(header.hasRemaining())
+            if(channel.read(header, header.position()) < 0)
+                throw new EOFException("The journal ends too early");
+        header.flip();
+
+        if(header.getInt() != MAGIC)
+            throw new IOException("Not a farm journal");
+        short version = header.getShort();
+        if(version != VERSION)
+            throw new IOException("Unsupported farm journal version: " + version);
+        header.getShort();
+        return header.getLong();
+    }
+
+    /**
+     * Counts the complete records of a journal file. The records end at the first
+     * record that is incomplete or fails its checksum, or at a batch whose ranges of
+     * tiles are not all there.
+     * @param channel        the channel of the journal file
+     * @param firstSequence  the sequence number of the first record of the journal
+     * @return the number of complete records.
+     * @throws IOException if the journal cannot be read
+     */
+    private static long countRecords(FileChannel channel, long firstSequence) throws IOException {
+        ByteBuffer records = ByteBuffer.allocate(RECORD_SIZE * 4096).order(ByteOrder.LITTLE_ENDIAN);
+        CRC32C checksum = new CRC32C();
+        byte[] checksumBytes = new byte[Long.BYTES + RECORD_SIZE - Integer.BYTES];
+        long position = HEADER_SIZE;
+        long recordCount = 0;
+        long completeCount = 0;
+        long batchRangesLeft = 0;
+        while(true) {
+            records.clear();
+            int read = 0;
+            while(records.hasRemaining()) {
+                int count = channel.read(records, position + read);
+                if(count < 0)
+                    break;
+                read += count;
+            }
+            records.flip();
+            if(records.remaining() < RECORD_SIZE)
+                return completeCount;
+
+            while(records.remaining() >= RECORD_SIZE) {
+                int type = records.get();
+                int argument = records.get();
+                records.getShort();
+                int row = records.getInt();
+                int col = records.getInt();
+                int recordChecksum = records.getInt();
+                if(recordChecksum != getChecksum(checksum, checksumBytes, firstSequence + recordCount,
+                                                 type, argument, row, col) ||
+                   (batchRangesLeft > 0) != (type == BATCH_RANGE) ||
+                   type < PLOW || type > BATCH_RANGE || type == BATCH && row < 0)
+                    return completeCount;
+
+                recordCount++;
+                if(type == BATCH)
+                    batchRangesLeft = row;
+                else if(type == BATCH_RANGE)
+                    batchRangesLeft--;
+                if(batchRangesLeft == 0)
+                    completeCount = recordCount;
+            }
+            position += records.position();
+        }
+    }
+
+    /**
+     * Computes the checksum of a record, which covers its sequence number so that
+     * a record found at the wrong place in the journal is not taken as valid.
+     * @param checksum       the checksum being computed
+     * @param checksumBytes  the scratch array where the record is encoded
+     * @param sequence       the sequence number of the record
+     * @param type           the kind of record
+     * @param argument       the plant, farmer type, or tool of the record
+     * @param row            the row of the tile, or the number of the record's items
+     * @param col            the column of the tile, or the end of the record's range
+     * @return the checksum of the record.
+     */
+    private static int getChecksum(CRC32C checksum, byte[] checksumBytes, long sequence,
+                                   int type, int argument, int row, int col) {
+        for(int i = 0; i < Long.BYTES; i++)
+            checksumBytes[i] = (byte)(sequence >>> (8 * i));
+        checksumBytes[8] = (byte)type;
+        checksumBytes[9] = (byte)argument;
+        checksumBytes[10] = 0;
+        checksumBytes[11] = 0;
+        for(int i = 0; i < Integer.BYTES; i++) {
+            checksumBytes[12 + i] = (byte)(row >>> (8 * i));
+            checksumBytes[16 + i] = (byte)(col >>> (8 * i));
+        }
+        checksum.reset();
+        checksum.update(checksumBytes, 0, checksumBytes.length);
+        return (int)checksum.getValue();
+    }
+
+    /**
+     * Does the action of a record on the engine.
+     * @param engine    the engine where the action is done
+     * @param type      the kind of record
+     * @param argument  the plant, farmer type, or tool of the record
+     * @param row       the row of the tile, or the number of days
+     * @param col       the column of the tile
+     */
+    private static void apply(FarmEngine engine, int type, int argument, int row, int col) {
+        switch(type) {
+            case PLOW -> engine.plow(row, col);
+            case WATER -> engine.water(row, col);
+            case FERTILIZE -> engine.fertilize(row, col);
+            case PICKAXE -> engine.pickaxe(row, col);
+            case SHOVEL -> engine.shovel(row, col);
+            case PLANT -> engine.plant(PlantList.fromId(argument), row, col);
+            case HARVEST -> engine.harvest(row, col);
+            case REGISTER -> engine.register(FarmerType.values()[argument]);
+            case NEXT_DAY -> engine.advanceDay();
+            case ADVANCE_DAYS -> engine.advanceDays(row);
+            default -> throw new IllegalStateException("Unexpected journal record: " + type);
+        }
+    }
+
+    /**
+     * Gets the kind of record of a tool use.
+     * @param type the type of tool
+     * @return the kind of record.
+     */
+    private static int getRecordType(ToolType type) {
+        return switch(type) {
+            case PLOW -> PLOW;
+            case WATERINGCAN -> WATER;
+            case FERTILIZER -> FERTILIZE;
+            case PICKAXE -> PICKAXE;
+            case SHOVEL -> SHOVEL;
+        };
+    }
+
+    /**
+     * Gets the type of tool of a tool use record.
+     * @param recordType the kind of record
+     * @return the type of tool.
+     */
+    private static ToolType getToolType(int recordType) {
+        return switch(recordType) {
+            case PLOW -> ToolType.PLOW;
+            case WATER -> ToolType.WATERINGCAN;
+            case FERTILIZE -> ToolType.FERTILIZER;
+            case PICKAXE -> ToolType.PICKAXE;
+            case SHOVEL -> ToolType.SHOVEL;
+            default -> throw new IllegalStateException("Unexpected tool record: " + recordType);
+        };
+    }
+}
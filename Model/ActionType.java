@@ -0,0 +1,16 @@
+package Model;
+
+/**
+ * This enum represents the kinds of actions that a player can do in a day, which
+ * include using each of the tools, planting, harvesting, and registering.
+ */
+public enum ActionType {
+    PLOW,
+    WATER,
+    FERTILIZE,
+    PICKAXE,
+    SHOVEL,
+    PLANT,
+    HARVEST,
+    REGISTER
+}
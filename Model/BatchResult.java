@@ -0,0 +1,115 @@
+package Model;
+
+import Model.Tools.ToolType;
+
+/**
+ * This class represents the results of using a tool on many tiles in one batch. It
+ * counts how many tiles gave each result code, and keeps the total Objectcoins spent,
+ * the total experience gained, and whether the farmer leveled up from the batch.
+ * <p>
+ *     The result codes are the same as the ones returned when the tool is used on a
+ *     single tile, which are also the message types used by the view.
+ * </p>
+ */
+public class BatchResult {
+
+    // attributes
+    private final ToolType type;
+    private final int[] resultCounts = new int[6];
+    private int successCount = 0;
+    private double objectCoinsSpent = 0.0d;
+    private double experienceGained = 0.0d;
+    private boolean leveledUp = false;
+
+    /**
+     * Creates an empty batch result for the given type of tool.
+     * @param type the type of tool used in the batch
+     */
+    BatchResult(ToolType type) {
+        this.type = type;
+    }
+
+    /**
+     * Checks if a result code of a tool means that the tool was used on the tile.
+     * @param type    the type of tool used
+     * @param result  the result code of the tool use
+     * @return true if the tool was used, false if otherwise.
+     */
+    static boolean isSuccess(ToolType type, int result) {
+        if(type == ToolType.SHOVEL)
+            return result <= 3;
+        return result == 1;
+    }
+
+    /**
+     * Adds the result of a tool use on one tile to the batch.
+     * @param result the result code of the tool use
+     */
+    void addResult(int result) {
+        this.resultCounts[result]++;
+        if(isSuccess(this.type, result))
+            this.successCount++;
+    }
+
+    /**
+     * Sets the totals of the batch once every tile was visited.
+     * @param objectCoinsSpent  the total Objectcoins spent on the batch
+     * @param experienceGained  the total experience gained from the batch
+     * @param leveledUp         whether the farmer leveled up from the batch
+     */
+    void setTotals(double objectCoinsSpent, double experienceGained, boolean leveledUp) {
+        this.objectCoinsSpent = objectCoinsSpent;
+        this.experienceGained = experienceGained;
+        this.leveledUp = leveledUp;
+    }
+
+    // getters
+    /**
+     * Gets the type of tool used in the batch.
+     * @return the type of tool.
+     */
+    public ToolType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the number of tiles that gave the given result code.
+     * @param result the result code of the tool
+     * @return the number of tiles with the result.
+     */
+    public int getResultCount(int result) {
+        return resultCounts[result];
+    }
+
+    /**
+     * Gets the number of tiles where the tool was used.
+     * @return the number of successful tool uses.
+     */
+    public int getSuccessCount() {
+        return successCount;
+    }
+
+    /**
+     * Gets the total Objectcoins spent on the batch.
+     * @return the Objectcoins spent.
+     */
+    public double getObjectCoinsSpent() {
+        return objectCoinsSpent;
+    }
+
+    /**
+     * Gets the total experience gained from the batch.
+     * @return the experience gained.
+     */
+    public double getExperienceGained() {
+        return experienceGained;
+    }
+
+    /**
+     * Checks if the farmer leveled up from the batch.
+     * @return true if the farmer leveled up, false if otherwise.
+     */
+    public boolean getLeveledUp() {
+        return leveledUp;
+    }
+}
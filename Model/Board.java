@@ -1,35 +1,109 @@
 package Model;
 
+import Model.Plants.Plant;
+import Model.Plants.PlantList;
+
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 
 /**
  * This class represents the farming lot in the game, which contains multiple individual
  * tiles where the farmer can plow tiles, plant seeds, and harvest crops.
  * <p>
  *     The board keeps track of the number of rocks, growing crops, fully-grown crops,
- *     withered crops, and plowed tiles among its individual tiles. It is responsible for
- *     checking if a fruit tree seed can be planted on a specific tile.
+ *     withered crops, and plowed tiles among its individual tiles. These counts are
+ *     updated as each tile changes, so they never need a full recount. It is also
+ *     responsible for checking if a fruit tree seed can be planted on a specific tile.
+ * </p>
+ * <p>
+ *     The statuses of the tiles are stored in packed bitsets, one bit per tile for
+ *     each of the tile's flags, and the crops are stored in an array parallel to them.
+ *     A Tile object is only a view of one position of the board.
+ * </p>
+ * <p>
+ *     The board also keeps a bitset of the tiles where a fruit tree can be planted,
+ *     which is the occupancy bitset dilated by one tile in all directions, inverted,
+ *     and without the lot's edge. It is updated whenever a tile becomes occupied or
+ *     freed, so checking a tile or getting all eligible tiles needs no neighbor scan.
+ * </p>
+ * <p>
+ *     Crops are only visited on the days when their status changes, which are kept
+ *     in a growth scheduler. In between, the growth days of a plant are brought up
+ *     to date from the day it was planted whenever the plant is read from the board.
+ * </p>
+ * <p>
+ *     A board opened from a memory-mapped snapshot leaves its crops in the snapshot,
+ *     and each crop is only loaded the first time it is needed. The crops of the
+ *     snapshot are scheduled on the first day the board is advanced.
  * </p>
  */
 public class Board {
 
+    // tile flags, each stored as a bitset over the tile indices
+    static final int PLOWED = 0;
+    static final int OCCUPIED = 1;
+    static final int ROCK = 2;
+    static final int CROP = 3;
+    static final int WITHERED_CROP = 4;
+    static final int FULLY_GROWN_CROP = 5;
+    static final int FLAG_COUNT = 6;
+
     // attributes
-    private Tile[][] tiles;
-    private int rocksCount;
+    private final long[][] flags;
+    private final Plant[] crops;
+    private final long[] fruitTreeTiles;
+    private final GrowthScheduler growthScheduler;
+    private final FarmRandom random;
+    private MappedCrops mappedCrops = null;
+    private boolean mappedCropsScheduled = false;
+    private int daysElapsed = 0;
+    private int rocksCount = 0;
     private int growingCropCount = 0;
     private int witheredCropCount = 0;
     private int fullyGrownCropCount = 0;
     private int plowedTilesCount = 0;
 
+    // tiles that changed since the board was last rendered
+    private final int rows;
+    private final int columns;
+    private final BitSet dirtyTiles;
+
     /**
      * Creates a board object. When a board is created, all of its tiles
-     * are also created with it.
+     * are also created with it, all of them unplowed. Every tile starts as
+     * changed so that the whole board is rendered the first time.
+     * @param rows     the number of rows of the board
+     * @param columns  the number of columns of the board
      */
     public Board(int rows, int columns) {
-        this.tiles = new Tile[rows][columns];
-        for(int rowCount = 0; rowCount < rows; rowCount++)
-            for(int colCount = 0; colCount < columns; colCount++)
-                this.tiles[rowCount][colCount] = new Tile();
+        this(rows, columns, new FarmRandom());
+    }
+
+    /**
+     * Creates a board object with the given number of rows and columns, whose crops
+     * get their random seeds from the given random source.
+     * @param rows     the number of rows of the board
+     * @param columns  the number of columns of the board
+     * @param random   the random source of the board
+     */
+    public Board(int rows, int columns, FarmRandom random) {
+        this.random = random;
+        this.rows = rows;
+        this.columns = columns;
+        this.flags = new long[FLAG_COUNT][(rows * columns + 63) >>> 6];
+        this.crops = new Plant[rows * columns];
+        this.fruitTreeTiles = new long[this.flags[OCCUPIED].length];
+        this.rebuildFruitTreeTiles();
+
+        // crops are due at most one day after their growing time
+        int longestGrowingTime = 0;
+        for(PlantList plant : PlantList.values())
+            longestGrowingTime = Math.max(longestGrowingTime, plant.getGrowingTimeDays());
+        this.growthScheduler = new GrowthScheduler(longestGrowingTime + 2);
+
+        this.dirtyTiles = new BitSet(rows * columns);
+        this.dirtyTiles.set(0, rows * columns);
     }
 
     /**
@@ -38,21 +112,23 @@ public class Board {
      *                      the rocks will be placed
      */
     public void setInitialRocks(ArrayList<String> rockPositions) {
-        ArrayList<Integer> rockRows = new ArrayList<>();
-        ArrayList<Integer> rockColumns = new ArrayList<>();
-
-        // store each coordinate in respective array lists
+        // each line contains the row and the column of a rock (beginning at 1),
+        // separated by whitespace
         for(String line : rockPositions) {
-            rockRows.add(Integer.parseInt(line.substring(0, 1)));
-            rockColumns.add(Integer.parseInt(line.substring(2)));
-        }
+            line = line.trim();
+            if(line.isEmpty())
+                continue;
+
+            int separator = 0;
+            while(!Character.isWhitespace(line.charAt(separator)))
+                separator++;
+            int row = Integer.parseInt(line.substring(0, separator)) - 1;
+            int col = Integer.parseInt(line.substring(separator).trim()) - 1;
 
-        // set the statuses of the tiles given the coordinates
-        for(int index = 0; index < rockPositions.size(); index++) {
-            int row = rockRows.get(index) - 1;
-            int col = rockColumns.get(index) - 1;
-            this.tiles[row][col].setHasRock(true);
-            this.tiles[row][col].setIsOccupied(true);
+            // set the statuses of the tile given the coordinates
+            int index = row * this.columns + col;
+            this.setFlag(index, ROCK, true);
+            this.setFlag(index, OCCUPIED, true);
         }
     }
 
@@ -72,53 +148,351 @@ public class Board {
             // check if the tile chosen is at the edge
             return false;
         } else {
-            // check if the adjacent tiles from all directions are occupied
-            Tile northWest = this.getTile(row - 1, col - 1);
-            Tile north = this.getTile(row - 1, col);
-            Tile northEast = this.getTile(row - 1, col + 1);
-            Tile east = this.getTile(row, col + 1);
-            Tile southEast = this.getTile(row + 1, col + 1);
-            Tile south = this.getTile(row + 1, col);
-            Tile southWest = this.getTile(row + 1, col - 1);
-            Tile west = this.getTile(row, col - 1);
-
-            return !northWest.getIsOccupied() && !north.getIsOccupied() &&
-                    !northEast.getIsOccupied() && !east.getIsOccupied() &&
-                    !southEast.getIsOccupied() && !south.getIsOccupied() &&
-                    !southWest.getIsOccupied() && !west.getIsOccupied();
+            return this.canPlantFruit(row, col);
+        }
+    }
+
+    /**
+     * Checks if the specific tile can be planted with a fruit tree, i.e., the tile
+     * is not at the lot's edge and none of its adjacent tiles are occupied.
+     * @param row  the row number of the tile (beginning at index 0)
+     * @param col  the column number of the tile (beginning at index 0)
+     * @return true if a fruit tree can be planted on the tile, false if otherwise.
+     */
+    public boolean canPlantFruit(int row, int col) {
+        int index = row * this.columns + col;
+        return (this.fruitTreeTiles[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Gets all the tiles where a fruit tree can currently be planted.
+     * @return the set of indices (row * columns + column) of the eligible tiles.
+     */
+    public BitSet getFruitTreeTiles() {
+        return BitSet.valueOf(this.fruitTreeTiles);
+    }
+
+    /**
+     * Rebuilds the bitset of tiles where a fruit tree can be planted from the
+     * occupancy bitset. Every tile next to an occupied tile is found by shifting the
+     * whole occupancy bitset towards each of the eight directions, and the eligible
+     * tiles are the ones inside the lot's edge that none of these shifts reached.
+     */
+    private void rebuildFruitTreeTiles() {
+        long[] occupied = this.flags[OCCUPIED];
+        long[] blocked = new long[occupied.length];
+        for(int rowOffset = -1; rowOffset <= 1; rowOffset++)
+            for(int colOffset = -1; colOffset <= 1; colOffset++)
+                if(rowOffset != 0 || colOffset != 0)
+                    orShifted(blocked, occupied, rowOffset * this.columns + colOffset);
+
+        // only the tiles that are not at the edge can be eligible
+        Arrays.fill(this.fruitTreeTiles, 0L);
+        for(int row = 1; row < this.rows - 1; row++)
+            setRange(this.fruitTreeTiles, row * this.columns + 1,
+                     (row + 1) * this.columns - 1);
+
+        for(int word = 0; word < blocked.length; word++)
+            this.fruitTreeTiles[word] &= ~blocked[word];
+    }
+
+    /**
+     * Updates the tiles where a fruit tree can be planted after the occupancy of a
+     * tile changed. Only the eight tiles adjacent to the changed tile are affected.
+     * @param index     the index of the tile whose occupancy changed
+     * @param occupied  true if the tile became occupied, false if it was freed
+     */
+    private void updateFruitTreeTiles(int index, boolean occupied) {
+        int row = index / this.columns;
+        int col = index % this.columns;
+        for(int adjRow = Math.max(row - 1, 1); adjRow <= Math.min(row + 1, this.rows - 2); adjRow++) {
+            for(int adjCol = Math.max(col - 1, 1); adjCol <= Math.min(col + 1, this.columns - 2); adjCol++) {
+                int adjIndex = adjRow * this.columns + adjCol;
+                if(adjIndex == index)
+                    continue;
+
+                // an adjacent tile is only eligible if all of its own adjacent
+                // tiles are free
+                if(!occupied && this.hasNoOccupiedNeighbor(adjIndex))
+                    this.fruitTreeTiles[adjIndex >>> 6] |= 1L << adjIndex;
+                else
+                    this.fruitTreeTiles[adjIndex >>> 6] &= ~(1L << adjIndex);
+            }
+        }
+    }
+
+    /**
+     * Checks if none of the eight tiles adjacent to a tile that is not at the
+     * lot's edge are occupied.
+     * @param index the index of the tile (row * columns + column)
+     * @return true if none of the adjacent tiles are occupied, false if otherwise.
+     */
+    private boolean hasNoOccupiedNeighbor(int index) {
+        int north = index - this.columns;
+        int south = index + this.columns;
+        return !this.getFlag(north - 1, OCCUPIED) && !this.getFlag(north, OCCUPIED) &&
+                !this.getFlag(north + 1, OCCUPIED) && !this.getFlag(index + 1, OCCUPIED) &&
+                !this.getFlag(south + 1, OCCUPIED) && !this.getFlag(south, OCCUPIED) &&
+                !this.getFlag(south - 1, OCCUPIED) && !this.getFlag(index - 1, OCCUPIED);
+    }
+
+    /**
+     * Sets the bits of the given bitset from a starting index (inclusive) to an
+     * ending index (exclusive).
+     * @param bits  the bitset being modified
+     * @param from  the first index to set
+     * @param to    the index after the last index to set
+     */
+    private static void setRange(long[] bits, int from, int to) {
+        for(int index = from; index < to; index++)
+            bits[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * Combines into the destination bitset the source bitset shifted by the given
+     * offset, so that bit i of the destination is set if bit (i + offset) of the
+     * source is set. The shift is done a whole word at a time.
+     * @param dest    the bitset where the shifted bits are combined
+     * @param src     the bitset being shifted
+     * @param offset  the number of positions to shift (may be negative)
+     */
+    private static void orShifted(long[] dest, long[] src, int offset) {
+        int wordShift = Math.floorDiv(offset, 64);
+        int bitShift = Math.floorMod(offset, 64);
+        for(int word = 0; word < dest.length; word++) {
+            int srcWord = word + wordShift;
+            long low = (srcWord >= 0 && srcWord < src.length) ? src[srcWord] : 0L;
+            long high = (srcWord + 1 >= 0 && srcWord + 1 < src.length) ? src[srcWord + 1] : 0L;
+            dest[word] |= bitShift == 0 ? low : (low >>> bitShift) | (high << (64 - bitShift));
+        }
+    }
+
+    /**
+     * Advances every crop on the board by one day. Only the crops that are due today
+     * are visited: the growth of each plant is updated first, and then the status of
+     * its tile is updated based on the plant's status. Crops that are still alive
+     * are scheduled again for their next change of status.
+     */
+    public void advanceDay() {
+        if(this.mappedCrops != null && !this.mappedCropsScheduled)
+            this.scheduleMappedCrops();
+
+        this.daysElapsed++;
+        this.growthScheduler.drain(this.daysElapsed, index -> {
+            Plant plant = this.loadCrop(index);
+
+            // skip entries whose crop was removed or is no longer due today
+            if(plant == null || !this.getFlag(index, CROP) ||
+               getDueDay(plant) != this.daysElapsed)
+                return;
+
+            plant.syncGrowth(this.daysElapsed - plant.getPlantedDay());
+
+            // update tile and plant status, if applicable
+            this.updateTileStatus(index);
+            if(!plant.getIsWithered())
+                this.growthScheduler.schedule(getDueDay(plant), index);
+        });
+    }
+
+    /**
+     * Advances every crop on the board by the given number of days in one step. A
+     * crop changes status on at most two days (when its growing time ends and, if it
+     * became ready to harvest, on the day after), so only those days are worked out
+     * for each crop instead of stepping through every day. The result is the same as
+     * advancing the board one day at a time.
+     * @param days the number of days to advance
+     */
+    public void advanceDays(int days) {
+        if(days < 0)
+            throw new IllegalArgumentException("Number of days cannot be negative: " + days);
+
+        int targetDay = this.daysElapsed + days;
+        this.growthScheduler.clear();
+
+        long[] cropWords = this.flags[CROP];
+        for(int word = 0; word < cropWords.length; word++) {
+            long bits = cropWords[word];
+            while(bits != 0) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+
+                // apply each change of status that falls within the skipped days
+                Plant plant = this.loadCrop(index);
+                int dueDay = getDueDay(plant);
+                while(dueDay != -1 && dueDay <= targetDay) {
+                    plant.syncGrowth(dueDay - plant.getPlantedDay());
+                    this.updateTileStatus(index);
+                    dueDay = getDueDay(plant);
+                }
+
+                // the wheel only covers the days just ahead, so the crop is scheduled again
+                if(dueDay != -1)
+                    this.growthScheduler.schedule(dueDay, index);
+            }
+        }
+        this.daysElapsed = targetDay;
+        this.mappedCropsScheduled = true;
+        this.releaseMappedCrops();
+    }
+
+    /**
+     * Gets the next day (in days elapsed on the board) when the status of a plant can
+     * change. A growing plant is due once its growing time has passed, where it either
+     * becomes ready to harvest or withers, and a ready-to-harvest plant withers on
+     * the day after that.
+     * @param plant the plant being checked
+     * @return the day when the plant is due, or -1 if the plant is already withered.
+     */
+    private static int getDueDay(Plant plant) {
+        return getDueDay(plant.getName(), plant.getPlantedDay(),
+                         plant.getIsReadyToHarvest(), plant.getIsWithered());
+    }
+
+    /**
+     * Gets the next day (in days elapsed on the board) when the status of a plant
+     * with the given status can change.
+     * @param plant             the kind of plant
+     * @param plantedDay        the day when the plant was planted
+     * @param isReadyToHarvest  true if the plant is ready to harvest
+     * @param isWithered        true if the plant is withered
+     * @return the day when the plant is due, or -1 if the plant is already withered.
+     */
+    static int getDueDay(PlantList plant, int plantedDay, boolean isReadyToHarvest,
+                         boolean isWithered) {
+        if(isWithered)
+            return -1;
+        else if(isReadyToHarvest)
+            return plantedDay + plant.getGrowingTimeDays() + 1;
+        else
+            return plantedDay + plant.getGrowingTimeDays();
+    }
+
+    /**
+     * Schedules every crop of the memory-mapped snapshot the board was opened from.
+     * The crops that are still in the snapshot are scheduled without loading them.
+     */
+    private void scheduleMappedCrops() {
+        for(int slot = 0; slot < this.mappedCrops.getCropCount(); slot++) {
+            int index = this.mappedCrops.getTile(slot);
+            int dueDay = -1;
+            if(this.crops[index] != null)
+                dueDay = getDueDay(this.crops[index]);
+            else if(this.mappedCrops.isUnloaded(index))
+                dueDay = this.mappedCrops.getDueDay(slot);
+
+            if(dueDay != -1)
+                this.growthScheduler.schedule(dueDay, index);
+        }
+        this.mappedCropsScheduled = true;
+        this.releaseMappedCrops();
+    }
+
+    /**
+     * Gets the crop planted on the tile at the given index, loading it from the
+     * memory-mapped snapshot the board was opened from if it is still there.
+     * @param index the index of the tile in the board (row * columns + column)
+     * @return the crop planted on the tile, if it has.
+     */
+    private Plant loadCrop(int index) {
+        Plant crop = this.crops[index];
+        if(crop == null && this.mappedCrops != null) {
+            crop = this.mappedCrops.load(index);
+            if(crop != null) {
+                crop.syncGrowth(this.daysElapsed - crop.getPlantedDay());
+                this.crops[index] = crop;
+                this.releaseMappedCrops();
+            }
         }
+        return crop;
     }
 
     /**
-     * Updates the stats of the board by counting each object / tile type
-     * every time.
+     * Lets go of the memory-mapped snapshot the board was opened from once all of
+     * its crops are loaded (or gone) and scheduled.
+     */
+    private void releaseMappedCrops() {
+        if(this.mappedCrops != null && this.mappedCropsScheduled &&
+           this.mappedCrops.getUnloadedCount() == 0)
+            this.mappedCrops = null;
+    }
+
+    /**
+     * Updates the status of the tile at the given index based on the status of
+     * its plant.
+     * @param index the index of the tile in the board (row * columns + column)
+     */
+    void updateTileStatus(int index) {
+        // update plant status if the tile has a plant
+        Plant plant = this.crops[index];
+        plant.updatePlantStatus();
+
+        if(plant.getIsWithered()) {
+            // if plant is now withered
+            this.setFlag(index, WITHERED_CROP, true);
+            this.setFlag(index, FULLY_GROWN_CROP, false);
+        } else if(plant.getIsReadyToHarvest())
+            // if plant is now fully-grown
+            this.setFlag(index, FULLY_GROWN_CROP, true);
+    }
+
+    /**
+     * Updates the stats of the board by counting each object / tile type from
+     * scratch. The stats are already kept up to date as the tiles change, so this
+     * is only needed to rebuild them (e.g., after the counts were set directly).
      * @param maxRows  the maximum number of rows of the board
      * @param maxCols  the maximum number of columns of the board
      */
     public void updateBoardStats(int maxRows, int maxCols) {
-        this.witheredCropCount = 0;
-        this.fullyGrownCropCount = 0;
-        this.plowedTilesCount = 0;
-        this.growingCropCount = 0;
-        this.rocksCount = 0;
-
-        // count the crops, tiles, and rocks on the board
-        for(int row = 0; row < maxRows; row++) {
-            for(int col = 0; col < maxCols; col++) {
-                Tile tile = this.getTile(row, col);
-
-                if(tile.getHasWitheredCrop())
-                    this.witheredCropCount++;
-                else if(tile.getHasFullyGrownCrop())
-                    this.fullyGrownCropCount++;
-                else if(tile.getHasCrop())
-                    this.growingCropCount++;
-                else if(tile.getHasRock())
-                    this.rocksCount++;
-                else if(tile.getIsPlowed())
-                    this.plowedTilesCount++;
-            }
+        int[] counts = this.countTileStatuses();
+        this.witheredCropCount = counts[TileStatus.WITHERED.ordinal()];
+        this.fullyGrownCropCount = counts[TileStatus.FULLY_GROWN.ordinal()];
+        this.growingCropCount = counts[TileStatus.GROWING.ordinal()];
+        this.rocksCount = counts[TileStatus.ROCK.ordinal()];
+        this.plowedTilesCount = counts[TileStatus.PLOWED.ordinal()];
+    }
+
+    /**
+     * Checks that the board stats kept up to date by the tiles are the same as the
+     * ones obtained by counting every tile. This is meant to be used as a debugging
+     * check, e.g., {@code assert board.verifyBoardStats();}
+     * @return true if the board stats match a full recount, false if otherwise.
+     */
+    public boolean verifyBoardStats() {
+        int[] counts = this.countTileStatuses();
+        return counts[TileStatus.WITHERED.ordinal()] == this.witheredCropCount &&
+               counts[TileStatus.FULLY_GROWN.ordinal()] == this.fullyGrownCropCount &&
+               counts[TileStatus.GROWING.ordinal()] == this.growingCropCount &&
+               counts[TileStatus.ROCK.ordinal()] == this.rocksCount &&
+               counts[TileStatus.PLOWED.ordinal()] == this.plowedTilesCount;
+    }
+
+    /**
+     * Counts the number of tiles having each tile status. The flags are counted
+     * 64 tiles at a time, following the precedence of the statuses.
+     * @return the number of tiles per status, indexed by the status' ordinal.
+     */
+    private int[] countTileStatuses() {
+        int[] counts = new int[TileStatus.values().length];
+        for(int word = 0; word < this.flags[CROP].length; word++) {
+            long withered = this.flags[WITHERED_CROP][word];
+            long fullyGrown = this.flags[FULLY_GROWN_CROP][word] & ~withered;
+            long growing = this.flags[CROP][word] & ~withered & ~fullyGrown;
+            long rock = this.flags[ROCK][word] & ~withered & ~fullyGrown & ~growing;
+            long plowed = this.flags[PLOWED][word] & ~withered & ~fullyGrown &
+                          ~growing & ~rock;
+
+            counts[TileStatus.WITHERED.ordinal()] += Long.bitCount(withered);
+            counts[TileStatus.FULLY_GROWN.ordinal()] += Long.bitCount(fullyGrown);
+            counts[TileStatus.GROWING.ordinal()] += Long.bitCount(growing);
+            counts[TileStatus.ROCK.ordinal()] += Long.bitCount(rock);
+            counts[TileStatus.PLOWED.ordinal()] += Long.bitCount(plowed);
         }
+        counts[TileStatus.UNPLOWED.ordinal()] = this.rows * this.columns -
+                counts[TileStatus.WITHERED.ordinal()] - counts[TileStatus.FULLY_GROWN.ordinal()] -
+                counts[TileStatus.GROWING.ordinal()] - counts[TileStatus.ROCK.ordinal()] -
+                counts[TileStatus.PLOWED.ordinal()];
+        return counts;
     }
 
     /**
@@ -135,13 +509,30 @@ public class Board {
 
     // getters and setters
     /**
-     * Gets the tile from the board, given the row and the column.
+     * Gets the number of rows of the board.
+     * @return the board's number of rows.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns of the board.
+     * @return the board's number of columns.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the tile from the board, given the row and the column. The tile is a
+     * view of the board, so changes on it are stored on the board.
      * @param row   the row number of the tile (beginning at index 0)
      * @param col   the column number of the tile (beginning at index 0)
      * @return the tile represented by the given positions.
      */
     public Tile getTile(int row, int col) {
-        return tiles[row][col];
+        return new Tile(this, row * this.columns + col);
     }
 
     /**
@@ -149,18 +540,234 @@ public class Board {
      * @return all board tiles.
      */
     public Tile[][] getTiles() {
+        Tile[][] tiles = new Tile[this.rows][this.columns];
+        for(int row = 0; row < this.rows; row++)
+            for(int col = 0; col < this.columns; col++)
+                tiles[row][col] = this.getTile(row, col);
         return tiles;
     }
 
     /**
      * Sets the tile of the board given the specific position (row and column)
-     * to a specific tile provided.
+     * to a specific tile provided. The statuses and the crop of the given tile
+     * are copied to the board.
      * @param tile  the tile to set the tile in board to
      * @param row   the row position of the tile (beginning at index 0)
      * @param col   the column position of the tile (beginning at index 0)
      */
     public void setTile(Tile tile, int row, int col) {
-        this.tiles[row][col] = tile;
+        int index = row * this.columns + col;
+        boolean[] tileFlags = {tile.getIsPlowed(), tile.getIsOccupied(), tile.getHasRock(),
+                               tile.getHasCrop(), tile.getHasWitheredCrop(),
+                               tile.getHasFullyGrownCrop()};
+        Plant cropPlanted = tile.getCropPlanted();
+
+        for(int flag = 0; flag < FLAG_COUNT; flag++)
+            this.setFlag(index, flag, tileFlags[flag]);
+        this.setCrop(index, cropPlanted);
+    }
+
+    /**
+     * Gets the value of a flag of the tile at the given index.
+     * @param index  the index of the tile in the board (row * columns + column)
+     * @param flag   the flag to get (e.g., PLOWED or OCCUPIED)
+     * @return true if the flag is set on the tile, false if otherwise.
+     */
+    boolean getFlag(int index, int flag) {
+        return (this.flags[flag][index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets the value of a flag of the tile at the given index, and records the
+     * change on the board.
+     * @param index  the index of the tile in the board (row * columns + column)
+     * @param flag   the flag to set (e.g., PLOWED or OCCUPIED)
+     * @param value  the new value of the flag
+     */
+    void setFlag(int index, int flag, boolean value) {
+        TileStatus previousStatus = this.getStatus(index);
+        boolean previousValue = this.getFlag(index, flag);
+        if(value)
+            this.flags[flag][index >>> 6] |= 1L << index;
+        else
+            this.flags[flag][index >>> 6] &= ~(1L << index);
+        this.tileChanged(index, previousStatus, this.getStatus(index));
+
+        // occupying or freeing a tile changes where fruit trees can be planted
+        if(flag == OCCUPIED && value != previousValue)
+            this.updateFruitTreeTiles(index, value);
+    }
+
+    /**
+     * Gets the status of the tile at the given index, following the precedence
+     * of the tile statuses.
+     * @param index the index of the tile in the board (row * columns + column)
+     * @return the current status of the tile.
+     */
+    TileStatus getStatus(int index) {
+        int word = index >>> 6;
+        long bit = 1L << index;
+        if((this.flags[WITHERED_CROP][word] & bit) != 0)
+            return TileStatus.WITHERED;
+        else if((this.flags[FULLY_GROWN_CROP][word] & bit) != 0)
+            return TileStatus.FULLY_GROWN;
+        else if((this.flags[CROP][word] & bit) != 0)
+            return TileStatus.GROWING;
+        else if((this.flags[ROCK][word] & bit) != 0)
+            return TileStatus.ROCK;
+        else if((this.flags[PLOWED][word] & bit) != 0)
+            return TileStatus.PLOWED;
+        else
+            return TileStatus.UNPLOWED;
+    }
+
+    /**
+     * Gets the crop planted on the tile at the given index. The growth days of the
+     * plant are brought up to date before it is returned.
+     * @param index the index of the tile in the board (row * columns + column)
+     * @return the crop planted on the tile, if it has.
+     */
+    Plant getCrop(int index) {
+        Plant crop = this.loadCrop(index);
+        if(crop != null)
+            crop.syncGrowth(this.daysElapsed - crop.getPlantedDay());
+        return crop;
+    }
+
+    /**
+     * Sets the crop planted on the tile at the given index. A newly planted crop
+     * is planted today, is given a random seed from the board's random source, and
+     * is scheduled for the day its growing time ends.
+     * @param index  the index of the tile in the board (row * columns + column)
+     * @param crop   the crop planted on the tile
+     */
+    void setCrop(int index, Plant crop) {
+        if(crop != null && crop != this.crops[index]) {
+            crop.setPlantedDay(this.daysElapsed);
+            crop.setRandomSeed(this.random.nextLong());
+            this.growthScheduler.schedule(getDueDay(crop), index);
+        }
+        if(this.mappedCrops != null) {
+            this.mappedCrops.discard(index);
+            this.releaseMappedCrops();
+        }
+        this.crops[index] = crop;
+        this.dirtyTiles.set(index);
+    }
+
+    /**
+     * Gets the words of the bitset of a tile flag. The array is the board's own, so
+     * it is only written to when the board is being restored.
+     * @param flag the flag whose bitset is returned (e.g., PLOWED or OCCUPIED)
+     * @return the words of the flag's bitset, 64 tiles per word.
+     */
+    long[] getFlagWords(int flag) {
+        return this.flags[flag];
+    }
+
+    /**
+     * Puts a saved crop on the tile at the given index. Unlike setCrop, the crop
+     * keeps the planted day and the random seed it was saved with, and it is not
+     * scheduled until the board is restored.
+     * @param index  the index of the tile in the board (row * columns + column)
+     * @param crop   the saved crop
+     */
+    void restoreCrop(int index, Plant crop) {
+        this.crops[index] = crop;
+    }
+
+    /**
+     * Restores the state that the board derives from its flags and crops, after these
+     * were loaded from a snapshot: the board stats, the tiles where a fruit tree can
+     * be planted, the growth of the crops, and the growth scheduler. Every tile is
+     * marked as changed so that the whole board is rendered again.
+     * @param daysElapsed the number of days the board was advanced when it was saved
+     */
+    void restore(int daysElapsed) {
+        this.daysElapsed = daysElapsed;
+        this.updateBoardStats(this.rows, this.columns);
+        this.rebuildFruitTreeTiles();
+
+        this.growthScheduler.clear();
+        for(int index = 0; index < this.crops.length; index++) {
+            Plant plant = this.crops[index];
+            if(plant == null)
+                continue;
+
+            plant.syncGrowth(daysElapsed - plant.getPlantedDay());
+            int dueDay = getDueDay(plant);
+            if(dueDay != -1)
+                this.growthScheduler.schedule(dueDay, index);
+        }
+        this.dirtyTiles.set(0, this.rows * this.columns);
+    }
+
+    /**
+     * Restores the board after its flags were loaded from a memory-mapped snapshot,
+     * whose crops are left in the snapshot until they are needed.
+     * @param daysElapsed  the number of days the board was advanced when it was saved
+     * @param mappedCrops  the crops of the snapshot
+     */
+    void restore(int daysElapsed, MappedCrops mappedCrops) {
+        this.restore(daysElapsed);
+        this.mappedCrops = mappedCrops;
+        this.mappedCropsScheduled = false;
+        this.releaseMappedCrops();
+    }
+
+    /**
+     * Gets the number of days that the board has been advanced since it was created.
+     * @return the number of days elapsed on the board.
+     */
+    public int getDaysElapsed() {
+        return daysElapsed;
+    }
+
+    /**
+     * Records a change on the tile at the given index. The tile is marked as changed
+     * since the board was last rendered, and the board stats are moved from the
+     * tile's previous status to its current status.
+     * @param index           the index of the tile in the board (row * columns + column)
+     * @param previousStatus  the status of the tile before it changed
+     * @param currentStatus   the status of the tile after it changed
+     */
+    void tileChanged(int index, TileStatus previousStatus, TileStatus currentStatus) {
+        this.dirtyTiles.set(index);
+        if(previousStatus != currentStatus) {
+            this.addToCount(previousStatus, -1);
+            this.addToCount(currentStatus, 1);
+        }
+    }
+
+    /**
+     * Adds the given amount to the board stat that counts the given tile status.
+     * @param status  the tile status whose count is updated
+     * @param amount  the amount added to the count
+     */
+    private void addToCount(TileStatus status, int amount) {
+        switch(status) {
+            case WITHERED -> this.witheredCropCount += amount;
+            case FULLY_GROWN -> this.fullyGrownCropCount += amount;
+            case GROWING -> this.growingCropCount += amount;
+            case ROCK -> this.rocksCount += amount;
+            case PLOWED -> this.plowedTilesCount += amount;
+        }
+    }
+
+    /**
+     * Gets the indices (row * columns + column) of the tiles that changed since the
+     * board was last rendered.
+     * @return the set of changed tiles.
+     */
+    public BitSet getDirtyTiles() {
+        return dirtyTiles;
+    }
+
+    /**
+     * Clears the set of changed tiles, which is done after the board is rendered.
+     */
+    public void clearDirtyTiles() {
+        this.dirtyTiles.clear();
     }
 
     /**
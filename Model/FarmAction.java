@@ -0,0 +1,136 @@
+package Model;
+
+import Model.Plants.PlantList;
+
+/**
+ * This class represents a single action done by a player, such as plowing a tile or
+ * planting a seed on a tile. Actions are planned by strategies and then applied to
+ * the farm by the engine.
+ * <p>
+ *     An action has a type, and depending on the type, the position of the tile
+ *     where it is done, the plant to plant, or the farmer type to register to.
+ * </p>
+ */
+public class FarmAction {
+
+    // attributes
+    private final ActionType type;
+    private final int row;
+    private final int col;
+    private final PlantList plant;
+    private final FarmerType farmerType;
+
+    /**
+     * Creates an action object.
+     * @param type        the type of the action
+     * @param row         the row of the tile, or -1 if the action has no tile
+     * @param col         the column of the tile, or -1 if the action has no tile
+     * @param plant       the plant to plant, if the action is planting
+     * @param farmerType  the farmer type to register to, if the action is registering
+     */
+    private FarmAction(ActionType type, int row, int col, PlantList plant,
+                       FarmerType farmerType) {
+        this.type = type;
+        this.row = row;
+        this.col = col;
+        this.plant = plant;
+        this.farmerType = farmerType;
+    }
+
+    /**
+     * Creates an action that uses a tool on a tile.
+     * @param type  the type of the action, which should be a tool action
+     * @param row   the row of the tile
+     * @param col   the column of the tile
+     * @return the action.
+     */
+    public static FarmAction useTool(ActionType type, int row, int col) {
+        if(type == ActionType.PLANT || type == ActionType.HARVEST || type == ActionType.REGISTER)
+            throw new IllegalArgumentException("Not a tool action: " + type);
+        return new FarmAction(type, row, col, null, null);
+    }
+
+    /**
+     * Creates an action that plants a seed on a tile.
+     * @param plant  the plant whose seed is planted
+     * @param row    the row of the tile
+     * @param col    the column of the tile
+     * @return the action.
+     */
+    public static FarmAction plant(PlantList plant, int row, int col) {
+        return new FarmAction(ActionType.PLANT, row, col, plant, null);
+    }
+
+    /**
+     * Creates an action that harvests the crop on a tile.
+     * @param row  the row of the tile
+     * @param col  the column of the tile
+     * @return the action.
+     */
+    public static FarmAction harvest(int row, int col) {
+        return new FarmAction(ActionType.HARVEST, row, col, null, null);
+    }
+
+    /**
+     * Creates an action that registers the farmer to a farmer type.
+     * @param farmerType the farmer type to register to
+     * @return the action.
+     */
+    public static FarmAction register(FarmerType farmerType) {
+        return new FarmAction(ActionType.REGISTER, -1, -1, null, farmerType);
+    }
+
+    /**
+     * Gets the information about the action.
+     * @return the string that contains the action information.
+     */
+    @Override
+    public String toString() {
+        return switch(this.type) {
+            case PLANT -> "PLANT " + this.plant.getSeedName() + " (" + this.row + ", " + this.col + ")";
+            case REGISTER -> "REGISTER " + this.farmerType.getTypeName();
+            default -> this.type + " (" + this.row + ", " + this.col + ")";
+        };
+    }
+
+    // getters
+    /**
+     * Gets the type of the action.
+     * @return the action's type.
+     */
+    public ActionType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the row of the tile where the action is done.
+     * @return the row of the tile, or -1 if the action has no tile.
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * Gets the column of the tile where the action is done.
+     * @return the column of the tile, or -1 if the action has no tile.
+     */
+    public int getCol() {
+        return col;
+    }
+
+    /**
+     * Gets the plant to plant.
+     * @return the plant, or null if the action is not planting.
+     */
+    public PlantList getPlant() {
+        return plant;
+    }
+
+    /**
+     * Gets the farmer type to register to.
+     * @return the farmer type, or null if the action is not registering.
+     */
+    public FarmerType getFarmerType() {
+        return farmerType;
+    }
+}
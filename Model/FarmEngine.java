@@ -0,0 +1,445 @@
+package Model;
+
+import Model.Plants.*;
+import Model.Tools.ToolType;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * This class represents the rules of the MyFarm game for every action that a player
+ * can do, which include using the tools, planting, harvesting, registering, and
+ * advancing the day.
+ * <p>
+ *     The engine works on a MyFarm object without any graphical interface. Each action
+ *     returns a result code instead of displaying a message, and the codes are the
+ *     same message types that the view uses for that action. This lets the game be
+ *     played by a controller, a test, or a simulation in the same way.
+ * </p>
+ * <p>
+ *     Actions can also be given as FarmAction objects, such as the ones planned by a
+ *     strategy from the engine's read-only farm view. A tool can also be used on many
+ *     tiles in one pass, which adds the experience once for the whole batch.
+ * </p>
+ * <p>
+ *     If the engine is given an action journal, every action that changes the farm is
+ *     appended to the journal once it is done, so the game can be recovered by doing
+ *     the actions again on the last snapshot of the farm.
+ * </p>
+ */
+public class FarmEngine {
+
+    // game elements
+    private final MyFarm myFarm;
+    private final FarmView farmView;
+    private boolean leveledUp = false;
+    private Harvest lastHarvest = null;
+    private ActionJournal journal = null;
+
+    // view of the tile that an action is done on, moved to each tile instead of
+    // creating a view for every action
+    private final Tile tile;
+
+    /**
+     * Creates an engine that plays the game on the given farm.
+     * @param myFarm the farm where the actions are done
+     */
+    public FarmEngine(MyFarm myFarm) {
+        this.myFarm = myFarm;
+        this.farmView = new FarmView(myFarm);
+        this.tile = new Tile(myFarm.getBoard(), 0);
+    }
+
+    /**
+     * Applies the given action to the farm.
+     * @param action the action to apply
+     * @return the result code of the action, which is the same as the one returned by
+     *         the engine's method for that type of action.
+     */
+    public int apply(FarmAction action) {
+        int row = action.getRow();
+        int col = action.getCol();
+        return switch(action.getType()) {
+            case PLOW -> this.plow(row, col);
+            case WATER -> this.water(row, col);
+            case FERTILIZE -> this.fertilize(row, col);
+            case PICKAXE -> this.pickaxe(row, col);
+            case SHOVEL -> this.shovel(row, col);
+            case PLANT -> this.plant(action.getPlant(), row, col);
+            case HARVEST -> this.harvest(row, col);
+            case REGISTER -> this.register(action.getFarmerType());
+        };
+    }
+
+    /**
+     * Applies the given actions to the farm, one after the other.
+     * @param actions the actions to apply
+     */
+    public void applyAll(List<FarmAction> actions) {
+        for(FarmAction action : actions)
+            this.apply(action);
+    }
+
+    /**
+     * Plows the tile at the given position.
+     * @param row  the row of the tile
+     * @param col  the column of the tile
+     * @return 1 if the tile was plowed, or 2 if the tile cannot be plowed.
+     */
+    public int plow(int row, int col) {
+        return this.useTool(ToolType.PLOW, row, col);
+    }
+
+    /**
+     * Waters the crop on the tile at the given position.
+     * @param row  the row of the tile
+     * @param col  the column of the tile
+     * @return 1 if the crop was watered, or 2 if the tile has no crop that can be watered.
+     */
+    public int water(int row, int col) {
+        return this.useTool(ToolType.WATERINGCAN, row, col);
+    }
+
+    /**
+     * Fertilizes the crop on the tile at the given position, deducting the cost of
+     * the fertilizer from the farmer's Objectcoins.
+     * @param row  the row of the tile
+     * @param col  the column of the tile
+     * @return 1 if the crop was fertilized, 2 if the tile has no crop that can be
+     *         fertilized, or 3 if the farmer does not have enough Objectcoins.
+     */
+    public int fertilize(int row, int col) {
+        return this.useTool(ToolType.FERTILIZER, row, col);
+    }
+
+    /**
+     * Removes the rock on the tile at the given position, deducting the cost of the
+     * pickaxe from the farmer's Objectcoins.
+     * @param row  the row of the tile
+     * @param col  the column of the tile
+     * @return 1 if the rock was removed, 2 if the tile has no rock, or 3 if the farmer
+     *         does not have enough Objectcoins.
+     */
+    public int pickaxe(int row, int col) {
+        return this.useTool(ToolType.PICKAXE, row, col);
+    }
+
+    /**
+     * Uses the shovel on the tile at the given position, deducting the cost of the
+     * shovel from the farmer's Objectcoins.
+     * @param row  the row of the tile
+     * @param col  the column of the tile
+     * @return 1 if a withered crop was removed, 2 if the shovel was used on a rock or
+     *         an unplowed tile, 3 if a growing crop was removed or a plowed tile was
+     *         reset, 4 if the shovel cannot be used on the tile, or 5 if the farmer
+     *         does not have enough Objectcoins.
+     */
+    public int shovel(int row, int col) {
+        return this.useTool(ToolType.SHOVEL, row, col);
+    }
+
+    /**
+     * Uses a tool on every tile of the rectangle between the two given corners, in
+     * one pass. The tiles are visited row by row, and the result is the same as using
+     * the tool on each of them one at a time, except that the experience is added
+     * once for the whole batch.
+     * @param type     the type of tool to use
+     * @param fromRow  the row of one corner of the rectangle
+     * @param fromCol  the column of one corner of the rectangle
+     * @param toRow    the row of the opposite corner of the rectangle
+     * @param toCol    the column of the opposite corner of the rectangle
+     * @return the results of the batch.
+     */
+    public BatchResult batchUseTool(ToolType type, int fromRow, int fromCol,
+                                    int toRow, int toCol) {
+        this.getTile(fromRow, fromCol);
+        this.getTile(toRow, toCol);
+
+        int columns = this.myFarm.getMAXCOLUMNS();
+        BitSet tiles = new BitSet();
+        for(int row = Math.min(fromRow, toRow); row <= Math.max(fromRow, toRow); row++)
+            tiles.set(row * columns + Math.min(fromCol, toCol),
+                      row * columns + Math.max(fromCol, toCol) + 1);
+        return this.batchUseTool(type, tiles);
+    }
+
+    /**
+     * Uses a tool on every given tile, in one pass. The tiles are visited in the order
+     * of their indices, and the result is the same as using the tool on each of them
+     * one at a time, except that the experience is added once for the whole batch.
+     * @param type   the type of tool to use
+     * @param tiles  the indices of the tiles (row * columns + column)
+     * @return the results of the batch.
+     */
+    public BatchResult batchUseTool(ToolType type, BitSet tiles) {
+        int columns = this.myFarm.getMAXCOLUMNS();
+        if(tiles.length() > this.myFarm.getMAXROWS() * columns)
+            throw new IllegalArgumentException("Tile out of bounds: " + (tiles.length() - 1));
+
+        Farmer farmer = this.myFarm.getFarmer();
+        double startingObjectCoins = farmer.getObjectCoins();
+        BatchResult batchResult = new BatchResult(type);
+        for(int index = tiles.nextSetBit(0); index >= 0; index = tiles.nextSetBit(index + 1))
+            batchResult.addResult(this.applyTool(type, this.tile.moveTo(this.myFarm.getBoard(), index)));
+
+        // add the experience of every successful use at once
+        double expGain = batchResult.getSuccessCount() * type.getExpGain();
+        this.leveledUp = batchResult.getSuccessCount() > 0 && farmer.updateExpAndLevel(expGain);
+        batchResult.setTotals(startingObjectCoins - farmer.getObjectCoins(), expGain,
+                              this.leveledUp);
+        if(this.journal != null && batchResult.getSuccessCount() > 0)
+            this.journal.appendBatch(type, tiles);
+        return batchResult;
+    }
+
+    /**
+     * Uses a tool on the tile at the given position and adds its experience gain if
+     * the tool was used.
+     * @param type  the type of tool to use
+     * @param row   the row of the tile
+     * @param col   the column of the tile
+     * @return the result code of the tool use.
+     */
+    private int useTool(ToolType type, int row, int col) {
+        Tile tile = this.getTile(row, col);
+        int result = this.applyTool(type, tile);
+        boolean success = BatchResult.isSuccess(type, result);
+        this.leveledUp = success && this.myFarm.getFarmer().updateExpAndLevel(type.getExpGain());
+        if(this.journal != null && success)
+            this.journal.appendToolUse(type, row, col);
+        return result;
+    }
+
+    /**
+     * Uses a tool on the given tile, deducting the cost of the tool from the farmer's
+     * Objectcoins if it was used. The experience gain is not added here.
+     * @param type  the type of tool to use
+     * @param tile  the tile where the tool is used
+     * @return the result code of the tool use.
+     */
+    private int applyTool(ToolType type, Tile tile) {
+        Farmer farmer = this.myFarm.getFarmer();
+        switch(type) {
+            case PLOW -> {
+                return farmer.useTool(type.getTool(), tile, null) ? 1 : 2;
+            }
+            case WATERINGCAN -> {
+                return farmer.useTool(type.getTool(), tile, tile.getCropPlanted()) ? 1 : 2;
+            }
+            case FERTILIZER -> {
+                if(farmer.getObjectCoins() < type.getCost())
+                    return 3;
+                if(!farmer.useTool(type.getTool(), tile, tile.getCropPlanted()))
+                    return 2;
+                farmer.setObjectCoins(farmer.getObjectCoins() - type.getCost());
+                return 1;
+            }
+            case PICKAXE -> {
+                if(farmer.getObjectCoins() < type.getCost())
+                    return 3;
+                if(!farmer.useTool(type.getTool(), tile, null))
+                    return 2;
+                farmer.setObjectCoins(farmer.getObjectCoins() - type.getCost());
+                return 1;
+            }
+            default -> {
+                if(farmer.getObjectCoins() < type.getCost())
+                    return 5;
+
+                // get the result before the shovel changes the tile
+                int result;
+                if(tile.getHasWitheredCrop())
+                    result = 1;
+                else if(tile.getHasRock() || !tile.getIsOccupied() && !tile.getIsPlowed())
+                    result = 2;
+                else
+                    result = 3;
+
+                if(!farmer.useTool(type.getTool(), tile, null))
+                    return 4;
+                farmer.setObjectCoins(farmer.getObjectCoins() - type.getCost());
+                return result;
+            }
+        }
+    }
+
+    /**
+     * Checks if the farmer has enough Objectcoins to buy the seed of the given plant.
+     * @param plant the plant whose seed is bought
+     * @return true if the farmer can buy the seed, false if otherwise.
+     */
+    public boolean canAffordSeed(PlantList plant) {
+        Farmer farmer = this.myFarm.getFarmer();
+        return farmer.getObjectCoins() >= plant.getSeedCost() + farmer.getSeedCostReduction();
+    }
+
+    /**
+     * Plants a seed of the given plant on the tile at the given position, deducting
+     * the seed cost from the farmer's Objectcoins.
+     * @param plant  the plant whose seed is planted
+     * @param row    the row of the tile
+     * @param col    the column of the tile
+     * @return 3 if the seed was planted, 1 if the tile is occupied, 2 if the tile is
+     *         not plowed, 4 if the fruit tree cannot be planted on the tile, or 5 if
+     *         the farmer does not have enough Objectcoins.
+     */
+    public int plant(PlantList plant, int row, int col) {
+        Tile tile = this.getTile(row, col);
+        this.leveledUp = false;
+        if(!this.canAffordSeed(plant))
+            return 5;
+        if(!plant.getCropType().canBePlanted(this.myFarm.getBoard(), row, col))
+            return 4;
+        if(tile.getIsOccupied())
+            return 1;
+        if(!tile.getIsPlowed())
+            return 2;
+
+        this.myFarm.getFarmer().plantSeed(plant.createPlant(), tile);
+        if(this.journal != null)
+            this.journal.appendPlant(plant, row, col);
+        return 3;
+    }
+
+    /**
+     * Harvests the crop on the tile at the given position, crediting the final
+     * harvest price to the farmer's Objectcoins.
+     * @param row  the row of the tile
+     * @param col  the column of the tile
+     * @return 1 if the crop was harvested, 2 if the tile has no fully grown crop, or
+     *         3 if there is no fully grown crop in the farm lot.
+     */
+    public int harvest(int row, int col) {
+        Tile tile = this.getTile(row, col);
+        this.leveledUp = false;
+        if(this.myFarm.getBoard().getFullyGrownCropCount() < 1)
+            return 3;
+        if(!tile.getHasCrop() || !tile.getHasFullyGrownCrop() || tile.getHasWitheredCrop())
+            return 2;
+
+        this.lastHarvest = this.myFarm.getFarmer().harvestPlant(tile, tile.getCropPlanted());
+        this.leveledUp = this.myFarm.getFarmer().updateExpAndLevel(this.lastHarvest.getExpYield());
+        if(this.journal != null)
+            this.journal.appendHarvest(row, col);
+        return 1;
+    }
+
+    /**
+     * Registers the farmer to the given farmer type, deducting the registration fee
+     * from the farmer's Objectcoins.
+     * @param farmerType the farmer type to register to
+     * @return 5 if the farmer was registered, 1 if the farmer already has the type,
+     *         2 if the type is lower than the current one, 3 if the farmer does not
+     *         have enough Objectcoins, or 4 if the farmer's level is too low.
+     */
+    public int register(FarmerType farmerType) {
+        Farmer farmer = this.myFarm.getFarmer();
+        this.leveledUp = false;
+        if(farmerType == farmer.getType())
+            return 1;
+        if(farmerType.getRegistrationFee() < farmer.getType().getRegistrationFee())
+            return 2;
+        if(farmer.getObjectCoins() < farmerType.getRegistrationFee())
+            return 3;
+        if(farmer.getLevel() < farmerType.getLevelRequirement())
+            return 4;
+
+        farmer.upgradeFarmer(farmerType);
+        if(this.journal != null)
+            this.journal.appendRegister(farmerType);
+        return 5;
+    }
+
+    /**
+     * Advances the game to the next day.
+     */
+    public void advanceDay() {
+        this.leveledUp = false;
+        this.myFarm.advanceDay();
+        if(this.journal != null)
+            this.journal.appendNextDay();
+    }
+
+    /**
+     * Advances the game by the given number of days in one step.
+     * @param days the number of days to advance
+     */
+    public void advanceDays(int days) {
+        this.leveledUp = false;
+        this.myFarm.advanceDays(days);
+        if(this.journal != null)
+            this.journal.appendAdvanceDays(days);
+    }
+
+    /**
+     * Checks if the game's losing conditions are met.
+     * @return 1 if there are no active crops and not enough Objectcoins, 2 if the
+     *         farm lot is filled with withered crops, 3 if otherwise.
+     */
+    public int checkIfGameOver() {
+        return this.myFarm.checkIfGameOver();
+    }
+
+    /**
+     * Checks if the farmer leveled up from the last action done.
+     * @return true if the farmer leveled up, false if otherwise.
+     */
+    public boolean hasLeveledUp() {
+        return leveledUp;
+    }
+
+    /**
+     * Gets the details of the last crop harvested through the engine.
+     * @return the last harvest, or null if no crop was harvested yet.
+     */
+    public Harvest getLastHarvest() {
+        return lastHarvest;
+    }
+
+    /**
+     * Sets the journal where the actions that change the farm are appended.
+     * @param journal the journal, or null to stop appending the actions
+     */
+    public void setJournal(ActionJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Gets the journal where the actions that change the farm are appended.
+     * @return the journal, or null if the actions are not appended.
+     */
+    public ActionJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Gets the read-only view of the farm where the actions are done.
+     * @return the view of the farm.
+     */
+    public FarmView getFarmView() {
+        return farmView;
+    }
+
+    /**
+     * Gets the farm where the actions are done.
+     * @return the farm of the engine.
+     */
+    public MyFarm getMyFarm() {
+        return myFarm;
+    }
+
+    /**
+     * Gets the tile at the given position after checking that it is on the board. The
+     * engine has one view of a tile, which is moved to the given position, so the
+     * tile is only valid until the next call.
+     * @param row  the row of the tile
+     * @param col  the column of the tile
+     * @return the tile at the given position.
+     */
+    private Tile getTile(int row, int col) {
+        if(row < 0 || row >= this.myFarm.getMAXROWS() ||
+           col < 0 || col >= this.myFarm.getMAXCOLUMNS())
+            throw new IllegalArgumentException("Tile out of bounds: " + row + ", " + col);
+        Board board = this.myFarm.getBoard();
+        return this.tile.moveTo(board, row * board.getColumns() + col);
+    }
+}
@@ -0,0 +1,144 @@
+package Model;
+
+/**
+ * This class represents the random number source of a farm, which decides the number
+ * of products that each crop produces.
+ * <p>
+ *     The source is seedable, so a game started with the same seed and the same
+ *     actions always gives the same results. It is also splittable: each split gives
+ *     a new source for another farm, so parallel simulations never share a generator.
+ *     The numbers are generated as java.util.SplittableRandom generates them: the
+ *     state is a number that is advanced by an odd step (the gamma) for every number,
+ *     and each split gets a different gamma that is mixed from this source, so the
+ *     sources that are split apart go through different sequences instead of shifted
+ *     copies of the same one. The state and the gamma can be saved and restored.
+ * </p>
+ */
+public final class FarmRandom {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    // attributes
+    private long state;
+    private final long gamma;
+
+    /**
+     * Creates a random source with a seed based on the current time.
+     */
+    public FarmRandom() {
+        this(mix(System.nanoTime()) ^ mix(System.currentTimeMillis() + GOLDEN_GAMMA));
+    }
+
+    /**
+     * Creates a random source with the given seed.
+     * @param seed the seed of the random source
+     */
+    public FarmRandom(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    /**
+     * Creates a random source with the given seed and gamma.
+     * @param seed   the seed of the random source
+     * @param gamma  the step added to the state for every number, which must be odd
+     */
+    public FarmRandom(long seed, long gamma) {
+        if((gamma & 1) == 0)
+            throw new IllegalArgumentException("Gamma must be odd: " + gamma);
+        this.state = seed;
+        this.gamma = gamma;
+    }
+
+    /**
+     * Gets the next random number from the source.
+     * @return a random 64-bit number.
+     */
+    public long nextLong() {
+        this.state += this.gamma;
+        return mix(this.state);
+    }
+
+    /**
+     * Gets the next random number from the source within the given range.
+     * @param origin  the lowest number that can be returned
+     * @param bound   the number above the highest number that can be returned
+     * @return a random number from origin (inclusive) to bound (exclusive).
+     */
+    public int nextInt(int origin, int bound) {
+        return nextInt(this.nextLong(), origin, bound);
+    }
+
+    /**
+     * Creates a new random source whose numbers are independent of this source.
+     * The new source gets its own seed and its own gamma, both taken from this source,
+     * which is advanced, so every split gives a different source.
+     * @return the new random source.
+     */
+    public FarmRandom split() {
+        long seed = this.nextLong();
+        this.state += this.gamma;
+        return new FarmRandom(seed, mixGamma(this.state));
+    }
+
+    /**
+     * Gets a number within the given range that is decided by the given seed alone.
+     * @param seed    the seed that decides the number
+     * @param origin  the lowest number that can be returned
+     * @param bound   the number above the highest number that can be returned
+     * @return a number from origin (inclusive) to bound (exclusive).
+     */
+    public static int nextInt(long seed, int origin, int bound) {
+        if(origin >= bound)
+            throw new IllegalArgumentException("Invalid range: " + origin + " to " + bound);
+        return origin + (int)Math.floorMod(mix(seed), (long)bound - origin);
+    }
+
+    /**
+     * Gets the current state of the source, which can be given back to setState()
+     * to continue the same sequence of numbers.
+     * @return the state of the random source.
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Sets the current state of the source.
+     * @param state the state of the random source
+     */
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    /**
+     * Gets the gamma of the source, the step added to its state for every number.
+     * @return the gamma of the random source.
+     */
+    public long getGamma() {
+        return gamma;
+    }
+
+    /**
+     * Scrambles the bits of the given number (SplitMix64 finalizer).
+     * @param z the number to scramble
+     * @return the scrambled number.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Turns the given number into the gamma of a split source. The gamma is odd, and
+     * its bits change often enough that its sequence of states looks random.
+     * @param z the number to turn into a gamma
+     * @return the gamma.
+     */
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        return Long.bitCount(z ^ (z >>> 1)) < 24 ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
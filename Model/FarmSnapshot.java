@@ -0,0 +1,419 @@
+package Model;
+
+import Model.Plants.Plant;
+import Model.Plants.PlantList;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class saves and loads the whole state of a game as a compact binary snapshot,
+ * which is written and read with NIO channels.
+ * <p>
+ *     A snapshot starts with a fixed-size header that has the format version, the
+ *     size of the farm lot, the day counters, the state and the gamma of the random
+ *     source, the farmer's stats, and the number of crops. It is followed by each tile flag as a
+ *     bitset (one bit per tile, the same words the board keeps), and then by the
+ *     crops as columns of primitives in the order of their tiles: the random seeds,
+ *     the tile indices, the planted days, the watered and fertilized counts, the
+ *     kinds of plants, and their statuses. Everything else (the board stats, the
+ *     tiles where a fruit tree can be planted, and the growth scheduler) is rebuilt
+ *     when the snapshot is loaded.
+ * </p>
+ * <p>
+ *     All the numbers are little-endian, and every column is aligned to the size of
+ *     its values, so a snapshot can also be opened by mapping it into memory, in
+ *     which case the crops are only loaded from the file when they are needed.
+ * </p>
+ */
+public final class FarmSnapshot {
+
+    // the first four bytes of every snapshot, and the version of the format
+    static final int MAGIC = 0x4E53464D; // "MFSN"
+    static final short VERSION = 2;
+
+    // size of the header, in bytes
+    static final int HEADER_SIZE = 72;
+
+    // size of the columns of a crop, in bytes
+    static final int CROP_SIZE = Long.BYTES + 4 * Integer.BYTES + 2 * Byte.BYTES;
+
+    // number of columns of a crop
+    private static final int CROP_COLUMNS = 7;
+
+    // bits of the status column of a crop
+    static final int READY_TO_HARVEST = 1;
+    static final int WITHERED = 2;
+
+    private FarmSnapshot() {
+    }
+
+    /**
+     * Saves the game to a snapshot file. The snapshot is written to a temporary file
+     * first, which then replaces the file in one step, so a snapshot file is never
+     * left half-written.
+     * @param farm  the game to save
+     * @param file  the snapshot file
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static void save(MyFarm farm, Path file) throws IOException {
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try(FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                                                   StandardOpenOption.TRUNCATE_EXISTING,
+                                                   StandardOpenOption.WRITE)) {
+            write(farm, channel);
+            channel.force(true);
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING,
+                   StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Loads a game from a snapshot file.
+     * @param file the snapshot file
+     * @return the game, as it was when it was saved.
+     * @throws IOException if the file cannot be read or is not a valid snapshot
+     */
+    public static MyFarm load(Path file) throws IOException {
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(channel);
+        }
+    }
+
+    /**
+     * Writes a snapshot of the game to a channel.
+     * @param farm     the game to save
+     * @param channel  the channel where the snapshot is written
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static void write(MyFarm farm, WritableByteChannel channel) throws IOException {
+        Board board = farm.getBoard();
+        Farmer farmer = farm.getFarmer();
+        int tileCount = board.getRows() * board.getColumns();
+
+        // the tiles with a crop
+        long[] cropWords = board.getFlagWords(Board.CROP);
+        int cropCount = 0;
+        for(long word : cropWords)
+            cropCount += Long.bitCount(word);
+
+        long size = getSize(tileCount, cropCount);
+        if(size > Integer.MAX_VALUE)
+            throw new IOException("The farm is too large to be saved: " + size + " bytes");
+        ByteBuffer buffer = ByteBuffer.allocate((int)size).order(ByteOrder.LITTLE_ENDIAN);
+
+        // header
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short)0);
+        buffer.putInt(board.getRows());
+        buffer.putInt(board.getColumns());
+        buffer.putInt(farm.getCurrentDay());
+        buffer.putInt(board.getDaysElapsed());
+        buffer.putLong(farm.getRandom().getState());
+        buffer.putLong(farm.getRandom().getGamma());
+        buffer.putInt(farmer.getType().ordinal());
+        buffer.putInt(farmer.getLevel());
+        buffer.putDouble(farmer.getExperience());
+        buffer.putDouble(farmer.getObjectCoins());
+        buffer.putInt(cropCount);
+        buffer.putInt(0);
+
+        // tile flags
+        for(int flag = 0; flag < Board.FLAG_COUNT; flag++) {
+            long[] words = board.getFlagWords(flag);
+            buffer.asLongBuffer().put(words);
+            buffer.position(buffer.position() + words.length * Long.BYTES);
+        }
+
+        // crops, one column at a time, each in the order of their tiles
+        for(int column = 0; column < CROP_COLUMNS; column++) {
+            for(int word = 0; word < cropWords.length; word++) {
+                for(long bits = cropWords[word]; bits != 0; bits &= bits - 1) {
+                    int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    Plant crop = board.getCrop(index);
+                    switch(column) {
+                        case 0 -> buffer.putLong(crop.getRandomSeed());
+                        case 1 -> buffer.putInt(index);
+                        case 2 -> buffer.putInt(crop.getPlantedDay());
+                        case 3 -> buffer.putInt(crop.getWateredCount());
+                        case 4 -> buffer.putInt(crop.getFertilizedCount());
+                        case 5 -> buffer.put((byte)crop.getName().getId());
+                        default -> buffer.put((byte)((crop.getIsReadyToHarvest() ?
+                                                      READY_TO_HARVEST : 0) |
+                                                     (crop.getIsWithered() ? WITHERED : 0)));
+                    }
+                }
+            }
+        }
+
+        buffer.flip();
+        while(buffer.hasRemaining())
+            channel.write(buffer);
+    }
+
+    /**
+     * Reads a game from a snapshot in a channel.
+     * @param channel the channel where the snapshot is read
+     * @return the game, as it was when it was saved.
+     * @throws IOException if the snapshot cannot be read or is not a valid snapshot
+     */
+    public static MyFarm read(ReadableByteChannel channel) throws IOException {
+        ByteBuffer headerBuffer = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, headerBuffer);
+        headerBuffer.flip();
+        Header header = new Header(headerBuffer);
+
+        ByteBuffer body = ByteBuffer.allocate((int)(header.getSize() - HEADER_SIZE))
+                                    .order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, body);
+        body.flip();
+
+        // tile flags, read straight into the board
+        MyFarm farm = header.createFarm();
+        Board board = farm.getBoard();
+        for(int flag = 0; flag < Board.FLAG_COUNT; flag++)
+            readLongs(body, board.getFlagWords(flag));
+        checkCropCount(board, header.cropCount);
+
+        // crops
+        int cropCount = header.cropCount;
+        long[] randomSeeds = new long[cropCount];
+        int[] cropTiles = new int[cropCount];
+        int[] plantedDays = new int[cropCount];
+        int[] wateredCounts = new int[cropCount];
+        int[] fertilizedCounts = new int[cropCount];
+        byte[] plants = new byte[cropCount];
+        byte[] statuses = new byte[cropCount];
+        readLongs(body, randomSeeds);
+        readInts(body, cropTiles);
+        readInts(body, plantedDays);
+        readInts(body, wateredCounts);
+        readInts(body, fertilizedCounts);
+        body.get(plants);
+        body.get(statuses);
+
+        // every crop must be on a tile that has a crop, in the order of the tiles
+        int tileCount = board.getRows() * board.getColumns();
+        int previousTile = -1;
+        for(int crop = 0; crop < cropCount; crop++) {
+            int index = cropTiles[crop];
+            if(index <= previousTile || index >= tileCount || !board.getFlag(index, Board.CROP) ||
+               plants[crop] < 0 || plants[crop] >= PlantList.values().length)
+                throw new IOException("Corrupted farm snapshot");
+            previousTile = index;
+
+            Plant plant = PlantList.fromId(plants[crop]).createPlant();
+            plant.setPlantedDay(plantedDays[crop]);
+            plant.setRandomSeed(randomSeeds[crop]);
+            plant.setWateredCount(wateredCounts[crop]);
+            plant.setFertilizedCount(fertilizedCounts[crop]);
+            plant.setIsReadyToHarvest((statuses[crop] & READY_TO_HARVEST) != 0);
+            plant.setIsWithered((statuses[crop] & WITHERED) != 0);
+            board.restoreCrop(index, plant);
+        }
+        board.restore(header.daysElapsed);
+        header.restoreFarm(farm);
+        return farm;
+    }
+
+    /**
+     * Opens a game from a snapshot file by mapping the file into memory. Only the
+     * header and the tile flags are read right away; the crops stay in the file and
+     * each one is loaded the first time the game needs it, so opening a farm takes
+     * about the same time no matter how many crops it has. Only the header and the
+     * tile flags are checked when the file is opened.
+     * <p>
+     *     The file stays mapped until every crop of the snapshot was loaded (or
+     *     removed) and the game was advanced by a day, so it should not be changed in
+     *     the meantime. Saving the game to the same file is safe, since a save replaces
+     *     the file instead of writing over it.
+     * </p>
+     * @param file the snapshot file
+     * @return the game, as it was when it was saved.
+     * @throws IOException if the file cannot be mapped or is not a valid snapshot
+     */
+    public static MyFarm open(Path file) throws IOException {
+        ByteBuffer snapshot;
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if(channel.size() > Integer.MAX_VALUE)
+                throw new IOException("The farm snapshot is too large to be mapped");
+            snapshot = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                              .order(ByteOrder.LITTLE_ENDIAN);
+        }
+        if(snapshot.capacity() < HEADER_SIZE)
+            throw new EOFException("The farm snapshot ends too early");
+        Header header = new Header(snapshot.slice(0, HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN));
+        if(snapshot.capacity() < header.getSize())
+            throw new EOFException("The farm snapshot ends too early");
+
+        // tile flags, copied into the board
+        MyFarm farm = header.createFarm();
+        Board board = farm.getBoard();
+        ByteBuffer flags = snapshot.slice(HEADER_SIZE, snapshot.capacity() - HEADER_SIZE)
+                                   .order(ByteOrder.LITTLE_ENDIAN);
+        for(int flag = 0; flag < Board.FLAG_COUNT; flag++)
+            readLongs(flags, board.getFlagWords(flag));
+        checkCropCount(board, header.cropCount);
+
+        // crops, left in the snapshot
+        board.restore(header.daysElapsed,
+                      new MappedCrops(snapshot, HEADER_SIZE + flags.position(), header.cropCount,
+                                      board.getFlagWords(Board.CROP)));
+        header.restoreFarm(farm);
+        return farm;
+    }
+
+    /**
+     * Checks that the number of tiles that have a crop is the number of crops in the
+     * snapshot.
+     * @param board      the board whose flags were read
+     * @param cropCount  the number of crops in the snapshot
+     * @throws IOException if the numbers are different
+     */
+    private static void checkCropCount(Board board, int cropCount) throws IOException {
+        int cropFlagCount = 0;
+        for(long word : board.getFlagWords(Board.CROP))
+            cropFlagCount += Long.bitCount(word);
+        if(cropFlagCount != cropCount)
+            throw new IOException("Corrupted farm snapshot");
+    }
+
+    /**
+     * Gets the size of the snapshot of a farm.
+     * @param tileCount  the number of tiles of the farm lot
+     * @param cropCount  the number of crops on the farm lot
+     * @return the size of the snapshot, in bytes.
+     */
+    static long getSize(int tileCount, int cropCount) {
+        long flagWords = (tileCount + 63L) >>> 6;
+        return HEADER_SIZE + Board.FLAG_COUNT * flagWords * Long.BYTES +
+               (long)cropCount * CROP_SIZE;
+    }
+
+    /**
+     * Reads from a channel until the buffer is full.
+     * @param channel  the channel being read
+     * @param buffer   the buffer where the bytes are read
+     * @throws IOException if the channel ends before the buffer is full
+     */
+    private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while(buffer.hasRemaining())
+            if(channel.read(buffer) < 0)
+                throw new EOFException("The farm snapshot ends too early");
+    }
+
+    /**
+     * Reads a column of longs from the buffer.
+     * @param buffer  the buffer being read
+     * @param values  the array where the values are read
+     */
+    private static void readLongs(ByteBuffer buffer, long[] values) {
+        buffer.asLongBuffer().get(values);
+        buffer.position(buffer.position() + values.length * Long.BYTES);
+    }
+
+    /**
+     * Reads a column of ints from the buffer.
+     * @param buffer  the buffer being read
+     * @param values  the array where the values are read
+     */
+    private static void readInts(ByteBuffer buffer, int[] values) {
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + values.length * Integer.BYTES);
+    }
+
+    /**
+     * This class represents the header of a snapshot, which is read and checked
+     * before the rest of the snapshot.
+     */
+    private static final class Header {
+
+        private final int rows;
+        private final int columns;
+        private final int currentDay;
+        private final int daysElapsed;
+        private final long randomState;
+        private final long randomGamma;
+        private final FarmerType farmerType;
+        private final int level;
+        private final double experience;
+        private final double objectCoins;
+        private final int cropCount;
+
+        /**
+         * Reads the header of a snapshot.
+         * @param buffer the buffer that has the header, in little-endian order
+         * @throws IOException if the header is not the header of a valid snapshot
+         */
+        Header(ByteBuffer buffer) throws IOException {
+            if(buffer.getInt() != MAGIC)
+                throw new IOException("Not a farm snapshot");
+            short version = buffer.getShort();
+            if(version != VERSION)
+                throw new IOException("Unsupported farm snapshot version: " + version);
+            buffer.getShort();
+            this.rows = buffer.getInt();
+            this.columns = buffer.getInt();
+            this.currentDay = buffer.getInt();
+            this.daysElapsed = buffer.getInt();
+            this.randomState = buffer.getLong();
+            this.randomGamma = buffer.getLong();
+            int farmerType = buffer.getInt();
+            this.level = buffer.getInt();
+            this.experience = buffer.getDouble();
+            this.objectCoins = buffer.getDouble();
+            this.cropCount = buffer.getInt();
+
+            if(this.rows <= 0 || this.columns <= 0 ||
+               (long)this.rows * this.columns > Integer.MAX_VALUE)
+                throw new IOException("Invalid farm lot size in snapshot: " +
+                                      this.rows + "x" + this.columns);
+            if(this.cropCount < 0 || this.cropCount > this.rows * this.columns ||
+               this.daysElapsed < 0 || (this.randomGamma & 1) == 0 || farmerType < 0 ||
+               farmerType >= FarmerType.values().length ||
+               this.getSize() > Integer.MAX_VALUE)
+                throw new IOException("Corrupted farm snapshot");
+            this.farmerType = FarmerType.values()[farmerType];
+        }
+
+        /**
+         * Gets the size of the whole snapshot.
+         * @return the size of the snapshot, in bytes.
+         */
+        long getSize() {
+            return FarmSnapshot.getSize(this.rows * this.columns, this.cropCount);
+        }
+
+        /**
+         * Creates an empty farm of the saved size, whose random source is in its
+         * saved state.
+         * @return the new farm.
+         */
+        MyFarm createFarm() {
+            return new MyFarm(this.rows, this.columns, new FarmRandom(this.randomState, this.randomGamma));
+        }
+
+        /**
+         * Restores the saved day and farmer of a farm.
+         * @param farm the farm being restored
+         */
+        void restoreFarm(MyFarm farm) {
+            farm.setCurrentDay(this.currentDay);
+            Farmer farmer = farm.getFarmer();
+            farmer.setType(this.farmerType);
+            farmer.setLevel(this.level);
+            farmer.setExperience(this.experience);
+            farmer.setObjectCoins(this.objectCoins);
+        }
+    }
+}
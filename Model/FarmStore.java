@@ -0,0 +1,282 @@
+package Model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * This class represents the saved game of a farm, which is kept in a directory as a
+ * snapshot of the farm and the journal of the actions done since the snapshot.
+ * <p>
+ *     The snapshot and the journal of the same generation go together: the farm is
+ *     recovered by loading the snapshot and replaying its journal. Once the journal
+ *     grows long enough, a checkpoint saves a new snapshot and starts the journal of
+ *     the next generation, and the files of the older generation are deleted. A
+ *     generation is only used once its snapshot is completely written, so the game can
+ *     be recovered from the files no matter when it crashed.
+ * </p>
+ */
+public final class FarmStore implements Closeable {
+
+    // directory of the saved game, relative to where the game is started
+    public static final String DEFAULT_DIRECTORY = "save";
+
+    // number of journal records after which a checkpoint is made
+    public static final long DEFAULT_CHECKPOINT_INTERVAL = 10_000;
+
+    // names of the files of a generation
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".farm";
+    private static final String JOURNAL_PREFIX = "journal-";
+    private static final String JOURNAL_SUFFIX = ".journal";
+
+    // attributes
+    private final Path directory;
+    private final FarmEngine engine;
+    private ActionJournal journal;
+    private long generation;
+
+    /**
+     * Creates the saved game of the given engine's farm.
+     * @param directory   the directory of the saved game
+     * @param engine      the engine of the farm, which appends its actions to the journal
+     * @param journal     the journal of the current generation
+     * @param generation  the current generation
+     */
+    private FarmStore(Path directory, FarmEngine engine, ActionJournal journal, long generation) {
+        this.directory = directory;
+        this.engine = engine;
+        this.journal = journal;
+        this.generation = generation;
+        engine.setJournal(journal);
+    }
+
+    /**
+     * Starts a new saved game of the given engine's farm in a directory, replacing any
+     * saved game that was there. The farm is saved as it is now, and every action done
+     * through the engine from now on is appended to the journal.
+     * @param directory  the directory of the saved game, which is created if needed
+     * @param engine     the engine of the farm
+     * @return the saved game.
+     * @throws IOException if the saved game cannot be written
+     */
+    public static FarmStore create(Path directory, FarmEngine engine) throws IOException {
+        Files.createDirectories(directory);
+        deleteGenerations(directory, -1);
+
+        // the journal comes first, so the generation is complete once the snapshot is there
+        ActionJournal journal = ActionJournal.create(getJournalFile(directory, 0), 0);
+        try {
+            FarmSnapshot.save(engine.getMyFarm(), getSnapshotFile(directory, 0));
+        } catch(IOException e) {
+            journal.close();
+            throw e;
+        }
+        return new FarmStore(directory, engine, journal, 0);
+    }
+
+    /**
+     * Recovers the saved game in a directory: the latest snapshot is loaded and the
+     * actions of its journal are done again on it. Every action done through the
+     * engine of the recovered farm is appended to the journal.
+     * @param directory the directory of the saved game
+     * @return the recovered game, or null if there is no saved game in the directory.
+     * @throws IOException if the saved game cannot be read
+     */
+    public static FarmStore recover(Path directory) throws IOException {
+        if(!Files.isDirectory(directory))
+            return null;
+        long generation = getLatestGeneration(directory);
+        if(generation < 0)
+            return null;
+
+        FarmEngine engine = new FarmEngine(FarmSnapshot.load(getSnapshotFile(directory, generation)));
+        Path journalFile = getJournalFile(directory, generation);
+        ActionJournal journal = Files.exists(journalFile) ? ActionJournal.open(journalFile) :
+                                                            ActionJournal.create(journalFile, 0);
+        try {
+            journal.replay(engine);
+        } catch(IOException | RuntimeException e) {
+            journal.close();
+            throw e;
+        }
+
+        deleteGenerations(directory, generation);
+        return new FarmStore(directory, engine, journal, generation);
+    }
+
+    /**
+     * Saves a snapshot of the farm as it is now and starts a new journal, after which
+     * the files of the previous generation are deleted.
+     * @throws IOException if the snapshot or the journal cannot be written
+     */
+    public void checkpoint() throws IOException {
+        long nextGeneration = this.generation + 1;
+        this.journal.sync();
+        ActionJournal nextJournal = ActionJournal.create(getJournalFile(this.directory, nextGeneration),
+                                                         this.journal.getNextSequence());
+        try {
+            FarmSnapshot.save(this.engine.getMyFarm(), getSnapshotFile(this.directory, nextGeneration));
+        } catch(IOException e) {
+            nextJournal.close();
+            Files.deleteIfExists(getJournalFile(this.directory, nextGeneration));
+            throw e;
+        }
+
+        this.engine.setJournal(nextJournal);
+        this.journal.close();
+        this.journal = nextJournal;
+        this.generation = nextGeneration;
+        deleteGenerations(this.directory, nextGeneration);
+    }
+
+    /**
+     * Makes a checkpoint if the journal has grown long enough since the last one.
+     * @return true if a checkpoint was made, false if otherwise.
+     * @throws IOException if the snapshot or the journal cannot be written
+     */
+    public boolean checkpointIfNeeded() throws IOException {
+        if(this.journal.getRecordCount() < DEFAULT_CHECKPOINT_INTERVAL)
+            return false;
+        this.checkpoint();
+        return true;
+    }
+
+    /**
+     * Forces every action appended to the journal to the disk.
+     * @throws IOException if the journal cannot be written
+     */
+    public void sync() throws IOException {
+        this.journal.sync();
+    }
+
+    /**
+     * Closes the saved game and deletes its files, which is done once the game is
+     * over. The engine stops appending its actions.
+     * @throws IOException if the files cannot be deleted
+     */
+    public void delete() throws IOException {
+        this.close();
+        deleteGenerations(this.directory, -1);
+    }
+
+    /**
+     * Closes the journal after forcing its actions to the disk. The engine stops
+     * appending its actions.
+     * @throws IOException if the journal cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        if(this.engine.getJournal() == this.journal)
+            this.engine.setJournal(null);
+        this.journal.close();
+    }
+
+    /**
+     * Gets the engine of the saved farm.
+     * @return the engine of the farm.
+     */
+    public FarmEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Gets the saved farm.
+     * @return the farm.
+     */
+    public MyFarm getMyFarm() {
+        return this.engine.getMyFarm();
+    }
+
+    /**
+     * Gets the current generation of the saved game, which is the number of
+     * checkpoints made since the game was started.
+     * @return the current generation.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Gets the latest generation that has a snapshot.
+     * @param directory the directory of the saved game
+     * @return the latest generation, or -1 if there is no snapshot.
+     * @throws IOException if the directory cannot be read
+     */
+    private static long getLatestGeneration(Path directory) throws IOException {
+        long latestGeneration = -1;
+        try(DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for(Path file : files) {
+                String name = file.getFileName().toString();
+                if(name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX))
+                    latestGeneration = Math.max(latestGeneration,
+                                                getGeneration(name, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX));
+            }
+        }
+        return latestGeneration;
+    }
+
+    /**
+     * Deletes the files of every generation except the given one, along with the
+     * temporary files of snapshots that were not completely written.
+     * @param directory   the directory of the saved game
+     * @param generation  the generation to keep, or -1 to delete every generation
+     * @throws IOException if the files cannot be deleted
+     */
+    private static void deleteGenerations(Path directory, long generation) throws IOException {
+        try(DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for(Path file : files) {
+                String name = file.getFileName().toString();
+                long fileGeneration;
+                if(name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX))
+                    fileGeneration = getGeneration(name, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+                else if(name.startsWith(JOURNAL_PREFIX) && name.endsWith(JOURNAL_SUFFIX))
+                    fileGeneration = getGeneration(name, JOURNAL_PREFIX, JOURNAL_SUFFIX);
+                else if(name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(".tmp"))
+                    fileGeneration = -1;
+                else
+                    continue;
+
+                if(fileGeneration != generation || generation < 0)
+                    Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Gets the generation in the name of a file of the saved game.
+     * @param name    the name of the file
+     * @param prefix  the prefix of the name, before the generation
+     * @param suffix  the suffix of the name, after the generation
+     * @return the generation, or -1 if the name has no valid generation.
+     */
+    private static long getGeneration(String name, String prefix, String suffix) {
+        try {
+            return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+        } catch(NumberFormatException | IndexOutOfBoundsException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Gets the snapshot file of a generation.
+     * @param directory   the directory of the saved game
+     * @param generation  the generation
+     * @return the snapshot file.
+     */
+    private static Path getSnapshotFile(Path directory, long generation) {
+        return directory.resolve(SNAPSHOT_PREFIX + generation + SNAPSHOT_SUFFIX);
+    }
+
+    /**
+     * Gets the journal file of a generation.
+     * @param directory   the directory of the saved game
+     * @param generation  the generation
+     * @return the journal file.
+     */
+    private static Path getJournalFile(Path directory, long generation) {
+        return directory.resolve(JOURNAL_PREFIX + generation + JOURNAL_SUFFIX);
+    }
+}
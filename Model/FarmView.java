@@ -0,0 +1,209 @@
+package Model;
+
+import Model.Plants.Plant;
+import Model.Plants.PlantList;
+
+/**
+ * This class represents a read-only view of a farm, which is given to strategies to
+ * decide their actions. It shows the current day, the farmer, and every tile of the
+ * board, but nothing on the farm can be changed through it.
+ */
+public class FarmView {
+
+    // attributes
+    private final MyFarm myFarm;
+
+    /**
+     * Creates a read-only view of the given farm.
+     * @param myFarm the farm being viewed
+     */
+    public FarmView(MyFarm myFarm) {
+        this.myFarm = myFarm;
+    }
+
+    // game
+    /**
+     * Gets the current day of the game.
+     * @return the current day.
+     */
+    public int getCurrentDay() {
+        return this.myFarm.getCurrentDay();
+    }
+
+    /**
+     * Gets the number of rows of the farm lot.
+     * @return the number of rows.
+     */
+    public int getRows() {
+        return this.myFarm.getMAXROWS();
+    }
+
+    /**
+     * Gets the number of columns of the farm lot.
+     * @return the number of columns.
+     */
+    public int getColumns() {
+        return this.myFarm.getMAXCOLUMNS();
+    }
+
+    // farmer
+    /**
+     * Gets the current amount of Objectcoins that the farmer has.
+     * @return the farmer's Objectcoins.
+     */
+    public double getObjectCoins() {
+        return this.myFarm.getFarmer().getObjectCoins();
+    }
+
+    /**
+     * Gets the current level of the farmer.
+     * @return the farmer's level.
+     */
+    public int getLevel() {
+        return this.myFarm.getFarmer().getLevel();
+    }
+
+    /**
+     * Gets the current experience of the farmer.
+     * @return the farmer's experience.
+     */
+    public double getExperience() {
+        return this.myFarm.getFarmer().getExperience();
+    }
+
+    /**
+     * Gets the current farmer type of the farmer.
+     * @return the farmer's type.
+     */
+    public FarmerType getFarmerType() {
+        return this.myFarm.getFarmer().getType();
+    }
+
+    /**
+     * Gets the cost of the seed of the given plant for the farmer, including the
+     * farmer's seed cost reduction.
+     * @param plant the plant whose seed is bought
+     * @return the cost of the seed.
+     */
+    public double getSeedCost(PlantList plant) {
+        return plant.getSeedCost() + this.myFarm.getFarmer().getSeedCostReduction();
+    }
+
+    // tiles
+    /**
+     * Gets the status of the tile at the given position.
+     * @param row  the row of the tile
+     * @param col  the column of the tile
+     * @return the status of the tile.
+     */
+    public TileStatus getTileStatus(int row, int col) {
+        return this.myFarm.getBoard().getTile(row, col).getStatus();
+    }
+
+    /**
+     * Checks if the tile at the given position is plowed.
+     * @param row  the row of the tile
+     * @param col  the column of the tile
+     * @return true if the tile is plowed, false if otherwise.
+     */
+    public boolean getIsPlowed(int row, int col) {
+        return this.myFarm.getBoard().getTile(row, col).getIsPlowed();
+    }
+
+    /**
+     * Checks if the tile at the given position is occupied by a rock or a crop.
+     * @param row  the row of the tile
+     * @param col  the column of the tile
+     * @return true if the tile is occupied, false if otherwise.
+     */
+    public boolean getIsOccupied(int row, int col) {
+        return this.myFarm.getBoard().getTile(row, col).getIsOccupied();
+    }
+
+    /**
+     * Checks if the tile at the given position has a rock.
+     * @param row  the row of the tile
+     * @param col  the column of the tile
+     * @return true if the tile has a rock, false if otherwise.
+     */
+    public boolean getHasRock(int row, int col) {
+        return this.myFarm.getBoard().getTile(row, col).getHasRock();
+    }
+
+    /**
+     * Gets the kind of crop planted on the tile at the given position.
+     * @param row  the row of the tile
+     * @param col  the column of the tile
+     * @return the kind of crop, or null if the tile has no crop.
+     */
+    public PlantList getCrop(int row, int col) {
+        Plant crop = this.myFarm.getBoard().getTile(row, col).getCropPlanted();
+        return crop == null ? null : crop.getName();
+    }
+
+    /**
+     * Gets the number of times the crop on the tile at the given position was watered.
+     * @param row  the row of the tile
+     * @param col  the column of the tile
+     * @return the number of times watered, or 0 if the tile has no crop.
+     */
+    public int getWateredCount(int row, int col) {
+        Plant crop = this.myFarm.getBoard().getTile(row, col).getCropPlanted();
+        return crop == null ? 0 : crop.getWateredCount();
+    }
+
+    /**
+     * Gets the number of times the crop on the tile at the given position was
+     * fertilized.
+     * @param row  the row of the tile
+     * @param col  the column of the tile
+     * @return the number of times fertilized, or 0 if the tile has no crop.
+     */
+    public int getFertilizedCount(int row, int col) {
+        Plant crop = this.myFarm.getBoard().getTile(row, col).getCropPlanted();
+        return crop == null ? 0 : crop.getFertilizedCount();
+    }
+
+    /**
+     * Checks if a fruit tree can be planted on the tile at the given position.
+     * @param row  the row of the tile
+     * @param col  the column of the tile
+     * @return true if a fruit tree can be planted, false if otherwise.
+     */
+    public boolean canPlantFruit(int row, int col) {
+        return this.myFarm.getBoard().canPlantFruit(row, col, this.getRows(), this.getColumns());
+    }
+
+    // board stats
+    /**
+     * Gets the number of growing crops on the board.
+     * @return the number of growing crops.
+     */
+    public int getGrowingCropCount() {
+        return this.myFarm.getBoard().getGrowingCropCount();
+    }
+
+    /**
+     * Gets the number of fully grown crops on the board.
+     * @return the number of fully grown crops.
+     */
+    public int getFullyGrownCropCount() {
+        return this.myFarm.getBoard().getFullyGrownCropCount();
+    }
+
+    /**
+     * Gets the number of withered crops on the board.
+     * @return the number of withered crops.
+     */
+    public int getWitheredCropCount() {
+        return this.myFarm.getBoard().getWitheredCropCount();
+    }
+
+    /**
+     * Gets the number of rocks on the board.
+     * @return the number of rocks.
+     */
+    public int getRocksCount() {
+        return this.myFarm.getBoard().getRocksCount();
+    }
+}
@@ -1,7 +1,7 @@
 package Model;
 
 import Model.Plants.Plant;
-import Model.Tools.*;
+import Model.Tools.Tool;
 
 /**
  * This class represents the farmer in the MyFarm game, which has a type, an amount of
@@ -61,22 +61,7 @@ public class Farmer {
      * @return true if the tool use is successful; otherwise, return false
      */
     public boolean useTool(Tool tool, Tile tile, Plant plant) {
-        if(tool.getType().equals(ToolType.PLOW)) {
-            Plow plow = new Plow();
-            return plow.plowTile(tile);
-        } else if(tool.getType().equals(ToolType.WATERINGCAN)) {
-            WateringCan wateringCan = new WateringCan();
-            return wateringCan.waterPlant(tile, plant);
-        } else if(tool.getType().equals(ToolType.FERTILIZER)) {
-            Fertilizer fertilizer = new Fertilizer();
-            return fertilizer.fertilizePlant(tile, plant);
-        } else if(tool.getType().equals(ToolType.PICKAXE)) {
-            Pickaxe pickaxe = new Pickaxe();
-            return pickaxe.destroyRock(tile);
-        } else {
-            Shovel shovel = new Shovel();
-            return shovel.removeWitheredCrop(tile);
-        }
+        return tool.use(tile, plant);
     }
 
     /**
@@ -93,7 +78,6 @@ public class Farmer {
             tile.setHasCrop(true);
             tile.setIsOccupied(true);
             tile.setIsPlowed(false);
-            seedChoice.setGrowthDaysLeft(seedChoice.getGrowingTimeDays());
 
             // deduct total price from current Objectcoins
             double totalSeedCost = seedChoice.getSeedCost() +
@@ -103,38 +87,22 @@ public class Farmer {
     }
 
     /**
-     * Allows the farmer to harvest the crop by computing for the necessary computations
-     * for the final price of the harvest, crediting this amount to the farmer's
+     * Allows the farmer to harvest the crop by looking up the final price of the
+     * harvest from the harvest price table, crediting this amount to the farmer's
      * Objectcoins, and updating the tile and plant statuses.
      * @param tile  the position on the lot where the crop will be harvested
      * @param plant the crop that will be planted
+     * @return the details of the harvest.
      */
-    public void harvestPlant(Tile tile, Plant plant) {
-        // compute for times watered and times fertilized
-        int totalWaterBonusLimit = plant.getWaterBonusLimit() +
-                                   this.getAddWaterBonusLimit();
-        int totalFertilizerBonusLimit = plant.getFertilizerBonusLimit() +
-                                        this.getAddFertBonusLimit();
-        int timesCropWatered = Math.min(plant.getWateredCount(), totalWaterBonusLimit);
-        int timesCropFertilized = Math.min(plant.getFertilizedCount(),
-                                           totalFertilizerBonusLimit);
-
-        // compute harvest total, water bonus, fertilizer bonus, final price
-        plant.setHarvestTotal((double)plant.getProductsProduced() *
-                              (plant.getBaseSellingCost() + this.getBonusEarnings()));
-        plant.setWaterBonus(plant.getHarvestTotal() * 0.2d *
-                           ((double)(timesCropWatered - 1)));
-        plant.setFertilizerBonus(plant.getHarvestTotal() * 0.5d *
-                                (double)timesCropFertilized);
-        plant.setFinalHarvestPrice(plant.getHarvestTotal() + plant.getWaterBonus() +
-                                   plant.getFertilizerBonus());
-
-        //check if flower
-        if (plant.getCropType().equals("Flower"))
-            plant.setFinalHarvestPrice(plant.getFinalHarvestPrice() * 1.1);
+    public Harvest harvestPlant(Tile tile, Plant plant) {
+        // look up harvest total, water bonus, fertilizer bonus, final price
+        Harvest harvest = HarvestPriceTable.getHarvest(plant.getName(), this.type,
+                                                       plant.getWateredCount(),
+                                                       plant.getFertilizedCount(),
+                                                       plant.getProductsProduced());
 
         // credit harvest gains to farmer's Objectcoins
-        this.objectCoins += plant.getFinalHarvestPrice();
+        this.objectCoins += harvest.getFinalHarvestPrice();
 
         // update tile and plant statuses
         tile.getCropPlanted().setIsReadyToHarvest(false);
@@ -143,6 +111,8 @@ public class Farmer {
         tile.setCropPlanted(null);
         tile.setHasCrop(false);
         tile.setIsOccupied(false);
+
+        return harvest;
     }
 
     /**
@@ -160,20 +130,20 @@ public class Farmer {
     /**
      * Gets all the information about the harvest, including the number of products
      * produced, the computations, and the final Objectcoins gain.
-     * @param plant the plant/crop that is being harvested.
+     * @param harvest the result of harvesting the plant/crop.
      * @return the string that contains the details of the harvest.
      */
-    public String getHarvestDetails(Plant plant) {
-        String waterBonus = String.format("%.1f", plant.getWaterBonus());
-        String finalHarvestGain = String.format("%.1f", plant.getFinalHarvestPrice());
+    public String getHarvestDetails(Harvest harvest) {
+        String waterBonus = String.format("%.1f", harvest.getWaterBonus());
+        String finalHarvestGain = String.format("%.1f", harvest.getFinalHarvestPrice());
 
         return "HARVEST DETAILS\n" + "-".repeat(106) +
-                "\nAmount of Products: " + plant.getProductsProduced() +
-                "\nHarvest Total: " + plant.getHarvestTotal() +
+                "\nAmount of Products: " + harvest.getProductsProduced() +
+                "\nHarvest Total: " + harvest.getHarvestTotal() +
                 "\nWater Bonus: " + waterBonus +
-                "\nFertilizer Bonus: " + plant.getFertilizerBonus() +
+                "\nFertilizer Bonus: " + harvest.getFertilizerBonus() +
                 "\nFinal Harvest Gain: " + finalHarvestGain +
-                "\nExperience Gained: " + (plant.getExpYield());
+                "\nExperience Gained: " + (harvest.getExpYield());
     }
 
     /**
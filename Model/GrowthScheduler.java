@@ -0,0 +1,68 @@
+package Model;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * This class represents the timing wheel that schedules the days when the crops on
+ * the board change their status (i.e., when they become ready to harvest or wither).
+ * <p>
+ *     The wheel has one slot per day, reused every time the wheel goes around. Each
+ *     slot holds the indices of the tiles whose crops are due on that day, so
+ *     advancing a day only visits the crops that actually change. An entry may become
+ *     outdated (e.g., if its crop was harvested), so the board checks each entry
+ *     again before acting on it.
+ * </p>
+ */
+final class GrowthScheduler {
+
+    // attributes
+    private final int[][] slots;
+    private final int[] slotSizes;
+    private final int mask;
+
+    /**
+     * Creates a scheduler that can hold events up to the given number of days ahead.
+     * @param horizon the maximum number of days between today and a scheduled event
+     */
+    GrowthScheduler(int horizon) {
+        int slotCount = Integer.highestOneBit(Math.max(horizon, 1)) << 1;
+        this.slots = new int[slotCount][8];
+        this.slotSizes = new int[slotCount];
+        this.mask = slotCount - 1;
+    }
+
+    /**
+     * Schedules the crop on the tile at the given index to be checked on the given day.
+     * @param day    the day when the crop is due
+     * @param index  the index of the tile of the crop (row * columns + column)
+     */
+    void schedule(int day, int index) {
+        int slot = day & this.mask;
+        if(this.slotSizes[slot] == this.slots[slot].length)
+            this.slots[slot] = Arrays.copyOf(this.slots[slot], this.slots[slot].length * 2);
+        this.slots[slot][this.slotSizes[slot]++] = index;
+    }
+
+    /**
+     * Removes all the crops scheduled on the given day from the wheel, passing each
+     * of their tile indices to the given action.
+     * @param day     the day whose scheduled crops are taken
+     * @param action  the action done on each tile index
+     */
+    void drain(int day, IntConsumer action) {
+        int slot = day & this.mask;
+        int[] indices = this.slots[slot];
+        int size = this.slotSizes[slot];
+        this.slotSizes[slot] = 0;
+        for(int entry = 0; entry < size; entry++)
+            action.accept(indices[entry]);
+    }
+
+    /**
+     * Removes every scheduled crop from the wheel.
+     */
+    void clear() {
+        Arrays.fill(this.slotSizes, 0);
+    }
+}
@@ -0,0 +1,101 @@
+package Model;
+
+import Model.Plants.PlantList;
+
+/**
+ * This class represents the result of harvesting a crop, which includes the number
+ * of products produced, the harvest total, the water and fertilizer bonuses, the
+ * final harvest price, and the experience gained.
+ * <p>
+ *     These values only exist once a crop is harvested, so they are kept here
+ *     instead of on every plant on the board.
+ * </p>
+ */
+public class Harvest {
+
+    // attributes
+    private final PlantList plant;
+    private final int productsProduced;
+    private final double harvestTotal;
+    private final double waterBonus;
+    private final double fertilizerBonus;
+    private final double finalHarvestPrice;
+
+    /**
+     * Creates a harvest object.
+     * @param plant              the kind of crop harvested
+     * @param productsProduced   the number of products produced by the crop
+     * @param harvestTotal       the price of the harvest without the bonuses
+     * @param waterBonus         the water bonus of the harvest
+     * @param fertilizerBonus    the fertilizer bonus of the harvest
+     * @param finalHarvestPrice  the final price of the harvest
+     */
+    public Harvest(PlantList plant, int productsProduced, double harvestTotal,
+                   double waterBonus, double fertilizerBonus, double finalHarvestPrice) {
+        this.plant = plant;
+        this.productsProduced = productsProduced;
+        this.harvestTotal = harvestTotal;
+        this.waterBonus = waterBonus;
+        this.fertilizerBonus = fertilizerBonus;
+        this.finalHarvestPrice = finalHarvestPrice;
+    }
+
+    // getters
+    /**
+     * Gets the kind of crop harvested.
+     * @return the harvested crop.
+     */
+    public PlantList getPlant() {
+        return plant;
+    }
+
+    /**
+     * Gets the number of products produced by the harvested crop.
+     * @return the number of products produced.
+     */
+    public int getProductsProduced() {
+        return productsProduced;
+    }
+
+    /**
+     * Gets the value of the price of the harvested products without the
+     * applied bonuses when selling.
+     * @return the price of the harvest without the bonuses yet (not final selling price)
+     */
+    public double getHarvestTotal() {
+        return harvestTotal;
+    }
+
+    /**
+     * Gets the computed water bonus of the harvest.
+     * @return the water bonus of the harvest.
+     */
+    public double getWaterBonus() {
+        return waterBonus;
+    }
+
+    /**
+     * Gets the computed fertilizer bonus of the harvest.
+     * @return the fertilizer bonus of the harvest.
+     */
+    public double getFertilizerBonus() {
+        return fertilizerBonus;
+    }
+
+    /**
+     * Gets the final computed harvest price, which is the final amount the
+     * harvest is sold for, and the amount that the farmer obtains.
+     * @return the final price of the harvest.
+     */
+    public double getFinalHarvestPrice() {
+        return finalHarvestPrice;
+    }
+
+    /**
+     * Gets the experience gained from the harvest.
+     * @return the experience gained.
+     */
+    public double getExpYield() {
+        return this.plant.getExpYield();
+    }
+}
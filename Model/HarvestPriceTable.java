@@ -0,0 +1,160 @@
+package Model;
+
+import Model.Plants.PlantList;
+
+/**
+ * This class represents the table of every possible harvest price in the game. The
+ * price of a harvest only depends on the kind of plant, the farmer type, the number of
+ * times the crop was watered and fertilized (capped by the bonus limits), and the
+ * number of products produced, all of which have a small number of values.
+ * <p>
+ *     The harvest of every combination, with its harvest total, water bonus,
+ *     fertilizer bonus, and final price, is created once when the class is loaded,
+ *     with the same formulas as a harvest, including the price multiplier of the crop
+ *     type. Harvests do not change, so harvesting a crop only needs to look one up.
+ * </p>
+ */
+public final class HarvestPriceTable {
+
+    // table offsets of each plant and farmer type, and the sizes of their dimensions
+    private static final int[][] OFFSETS;
+    private static final int[][] FERTILIZER_SIZES;
+    private static final int[][] PRODUCT_SIZES;
+
+    // every harvest and its final price, in the same order
+    private static final Harvest[] HARVESTS;
+    private static final double[] FINAL_HARVEST_PRICES;
+
+    static {
+        PlantList[] plants = PlantList.values();
+        FarmerType[] farmerTypes = FarmerType.values();
+        OFFSETS = new int[plants.length][farmerTypes.length];
+        FERTILIZER_SIZES = new int[plants.length][farmerTypes.length];
+        PRODUCT_SIZES = new int[plants.length][farmerTypes.length];
+
+        // lay out the tables, one block for each plant and farmer type
+        int size = 0;
+        for(PlantList plant : plants) {
+            for(FarmerType farmerType : farmerTypes) {
+                int waterSize = getWaterLimit(plant, farmerType) + 1;
+                int fertilizerSize = getFertilizerLimit(plant, farmerType) + 1;
+                int productSize = plant.getProductNumUpperLimit() + 1;
+                OFFSETS[plant.ordinal()][farmerType.ordinal()] = size;
+                FERTILIZER_SIZES[plant.ordinal()][farmerType.ordinal()] = fertilizerSize;
+                PRODUCT_SIZES[plant.ordinal()][farmerType.ordinal()] = productSize;
+                size += waterSize * fertilizerSize * productSize;
+            }
+        }
+
+        HARVESTS = new Harvest[size];
+        FINAL_HARVEST_PRICES = new double[size];
+        for(PlantList plant : plants) {
+            double priceMultiplier = plant.getCropType().getPriceMultiplier();
+            for(FarmerType farmerType : farmerTypes) {
+                for(int watered = 0; watered <= getWaterLimit(plant, farmerType); watered++) {
+                    for(int fertilized = 0; fertilized <= getFertilizerLimit(plant, farmerType);
+                        fertilized++) {
+                        for(int products = 0; products <= plant.getProductNumUpperLimit();
+                            products++) {
+                            int index = getIndex(plant, farmerType, watered, fertilized, products);
+
+                            // compute harvest total, water bonus, fertilizer bonus, final price
+                            double harvestTotal = (double)products * (plant.getBaseSellingCost() +
+                                                                      farmerType.getBonusEarnings());
+                            double waterBonus = harvestTotal * 0.2d * ((double)(watered - 1));
+                            double fertilizerBonus = harvestTotal * 0.5d * (double)fertilized;
+                            double finalHarvestPrice = harvestTotal + waterBonus + fertilizerBonus;
+                            finalHarvestPrice = finalHarvestPrice * priceMultiplier;
+
+                            HARVESTS[index] = new Harvest(plant, products, harvestTotal,
+                                                          waterBonus, fertilizerBonus,
+                                                          finalHarvestPrice);
+                            FINAL_HARVEST_PRICES[index] = finalHarvestPrice;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Prevents the table from being instantiated.
+     */
+    private HarvestPriceTable() {
+    }
+
+    /**
+     * Gets the final price of a harvest.
+     * @param plant             the kind of plant harvested
+     * @param farmerType        the type of the farmer harvesting the plant
+     * @param wateredCount      the number of times the crop was watered
+     * @param fertilizedCount   the number of times the crop was fertilized
+     * @param productsProduced  the number of products produced by the crop
+     * @return the final price of the harvest.
+     */
+    public static double getFinalHarvestPrice(PlantList plant, FarmerType farmerType,
+                                              int wateredCount, int fertilizedCount,
+                                              int productsProduced) {
+        return FINAL_HARVEST_PRICES[getIndex(plant, farmerType, wateredCount, fertilizedCount,
+                                             productsProduced)];
+    }
+
+    /**
+     * Gets all the details of a harvest. The harvest is shared by every crop harvested
+     * with the same values.
+     * @param plant             the kind of plant harvested
+     * @param farmerType        the type of the farmer harvesting the plant
+     * @param wateredCount      the number of times the crop was watered
+     * @param fertilizedCount   the number of times the crop was fertilized
+     * @param productsProduced  the number of products produced by the crop
+     * @return the details of the harvest.
+     */
+    public static Harvest getHarvest(PlantList plant, FarmerType farmerType, int wateredCount,
+                                     int fertilizedCount, int productsProduced) {
+        return HARVESTS[getIndex(plant, farmerType, wateredCount, fertilizedCount,
+                                 productsProduced)];
+    }
+
+    /**
+     * Gets the position of a harvest in the tables. The numbers of times watered and
+     * fertilized are capped by the bonus limits of the plant and the farmer type.
+     * @param plant             the kind of plant harvested
+     * @param farmerType        the type of the farmer harvesting the plant
+     * @param wateredCount      the number of times the crop was watered
+     * @param fertilizedCount   the number of times the crop was fertilized
+     * @param productsProduced  the number of products produced by the crop
+     * @return the index of the harvest in the tables.
+     */
+    private static int getIndex(PlantList plant, FarmerType farmerType, int wateredCount,
+                                int fertilizedCount, int productsProduced) {
+        if(productsProduced < 0 || productsProduced > plant.getProductNumUpperLimit())
+            throw new IllegalArgumentException("Invalid number of products: " + productsProduced);
+
+        int watered = Math.min(wateredCount, getWaterLimit(plant, farmerType));
+        int fertilized = Math.min(fertilizedCount, getFertilizerLimit(plant, farmerType));
+        int fertilizerSize = FERTILIZER_SIZES[plant.ordinal()][farmerType.ordinal()];
+        int productSize = PRODUCT_SIZES[plant.ordinal()][farmerType.ordinal()];
+        return OFFSETS[plant.ordinal()][farmerType.ordinal()] +
+               (watered * fertilizerSize + fertilized) * productSize + productsProduced;
+    }
+
+    /**
+     * Gets the number of times watered that counts towards the water bonus.
+     * @param plant       the kind of plant harvested
+     * @param farmerType  the type of the farmer harvesting the plant
+     * @return the water bonus limit of the plant and the farmer type.
+     */
+    private static int getWaterLimit(PlantList plant, FarmerType farmerType) {
+        return plant.getWaterBonusLimit() + farmerType.getAddWaterBonusLimit();
+    }
+
+    /**
+     * Gets the number of times fertilized that counts towards the fertilizer bonus.
+     * @param plant       the kind of plant harvested
+     * @param farmerType  the type of the farmer harvesting the plant
+     * @return the fertilizer bonus limit of the plant and the farmer type.
+     */
+    private static int getFertilizerLimit(PlantList plant, FarmerType farmerType) {
+        return plant.getFertilizerBonusLimit() + farmerType.getAddFertBonusLimit();
+    }
+}
@@ -0,0 +1,160 @@
+package Model;
+
+import Model.Plants.Plant;
+import Model.Plants.PlantList;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This class represents the crops of a board that was opened from a memory-mapped
+ * snapshot and have not been needed yet. The crops stay in the columns of the
+ * snapshot, and a Plant object is only created for a crop the first time the board
+ * needs it, so only the pages of the crops that are used are read from the file.
+ * <p>
+ *     The crop columns are in the order of their tiles, so the crop of a tile is
+ *     found with a binary search over the column of tile indices. A bitset keeps the
+ *     tiles whose crop is still only in the snapshot; a tile is removed from it once
+ *     its crop is loaded, or once the tile is given another crop or cleared.
+ * </p>
+ */
+final class MappedCrops {
+
+    // the snapshot, whose crop columns start at the given offsets
+    private final ByteBuffer snapshot;
+    private final int cropCount;
+    private final int randomSeedsOffset;
+    private final int cropTilesOffset;
+    private final int plantedDaysOffset;
+    private final int wateredCountsOffset;
+    private final int fertilizedCountsOffset;
+    private final int plantsOffset;
+    private final int statusesOffset;
+
+    // tiles whose crop has not been loaded yet
+    private final long[] unloadedTiles;
+    private int unloadedCount;
+
+    /**
+     * Creates the crops of a snapshot whose crop columns start at the given offset.
+     * @param snapshot       the snapshot, in little-endian order
+     * @param columnsOffset  the offset of the first crop column in the snapshot
+     * @param cropCount      the number of crops in the snapshot
+     * @param cropTiles      the bitset of the tiles that have a crop
+     */
+    MappedCrops(ByteBuffer snapshot, int columnsOffset, int cropCount, long[] cropTiles) {
+        this.snapshot = snapshot;
+        this.cropCount = cropCount;
+        this.randomSeedsOffset = columnsOffset;
+        this.cropTilesOffset = this.randomSeedsOffset + cropCount * Long.BYTES;
+        this.plantedDaysOffset = this.cropTilesOffset + cropCount * Integer.BYTES;
+        this.wateredCountsOffset = this.plantedDaysOffset + cropCount * Integer.BYTES;
+        this.fertilizedCountsOffset = this.wateredCountsOffset + cropCount * Integer.BYTES;
+        this.plantsOffset = this.fertilizedCountsOffset + cropCount * Integer.BYTES;
+        this.statusesOffset = this.plantsOffset + cropCount;
+        this.unloadedTiles = cropTiles.clone();
+        this.unloadedCount = cropCount;
+    }
+
+    /**
+     * Gets the number of crops in the snapshot.
+     * @return the number of crops.
+     */
+    int getCropCount() {
+        return cropCount;
+    }
+
+    /**
+     * Gets the number of crops that are still only in the snapshot.
+     * @return the number of crops that have not been loaded.
+     */
+    int getUnloadedCount() {
+        return unloadedCount;
+    }
+
+    /**
+     * Gets the index of the tile of a crop in the snapshot.
+     * @param slot the position of the crop in the crop columns
+     * @return the index of the tile (row * columns + column).
+     */
+    int getTile(int slot) {
+        return this.snapshot.getInt(this.cropTilesOffset + slot * Integer.BYTES);
+    }
+
+    /**
+     * Checks if the crop of a tile is still only in the snapshot.
+     * @param index the index of the tile (row * columns + column)
+     * @return true if the tile's crop has not been loaded yet, false if otherwise.
+     */
+    boolean isUnloaded(int index) {
+        return (this.unloadedTiles[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Gets the next day when the status of a crop in the snapshot can change,
+     * without loading the crop.
+     * @param slot the position of the crop in the crop columns
+     * @return the day when the crop is due, or -1 if the crop is withered.
+     */
+    int getDueDay(int slot) {
+        byte status = this.snapshot.get(this.statusesOffset + slot);
+        return Board.getDueDay(PlantList.fromId(this.snapshot.get(this.plantsOffset + slot)),
+                               this.snapshot.getInt(this.plantedDaysOffset + slot * Integer.BYTES),
+                               (status & FarmSnapshot.READY_TO_HARVEST) != 0,
+                               (status & FarmSnapshot.WITHERED) != 0);
+    }
+
+    /**
+     * Loads the crop of a tile from the snapshot. A crop is only loaded once.
+     * @param index the index of the tile (row * columns + column)
+     * @return the crop, or null if the tile's crop was already loaded or discarded.
+     */
+    Plant load(int index) {
+        if(!this.isUnloaded(index))
+            return null;
+        this.discard(index);
+
+        int slot = this.findSlot(index);
+        byte status = this.snapshot.get(this.statusesOffset + slot);
+        Plant plant = PlantList.fromId(this.snapshot.get(this.plantsOffset + slot)).createPlant();
+        plant.setRandomSeed(this.snapshot.getLong(this.randomSeedsOffset + slot * Long.BYTES));
+        plant.setPlantedDay(this.snapshot.getInt(this.plantedDaysOffset + slot * Integer.BYTES));
+        plant.setWateredCount(this.snapshot.getInt(this.wateredCountsOffset + slot * Integer.BYTES));
+        plant.setFertilizedCount(this.snapshot.getInt(this.fertilizedCountsOffset + slot * Integer.BYTES));
+        plant.setIsReadyToHarvest((status & FarmSnapshot.READY_TO_HARVEST) != 0);
+        plant.setIsWithered((status & FarmSnapshot.WITHERED) != 0);
+        return plant;
+    }
+
+    /**
+     * Forgets the crop of a tile in the snapshot, which is done when the tile is
+     * given another crop or cleared before its crop was loaded.
+     * @param index the index of the tile (row * columns + column)
+     */
+    void discard(int index) {
+        if(this.isUnloaded(index)) {
+            this.unloadedTiles[index >>> 6] &= ~(1L << index);
+            this.unloadedCount--;
+        }
+    }
+
+    /**
+     * Finds the position of the crop of a tile in the crop columns.
+     * @param index the index of the tile (row * columns + column)
+     * @return the position of the crop.
+     */
+    private int findSlot(int index) {
+        int low = 0;
+        int high = this.cropCount - 1;
+        while(low <= high) {
+            int middle = (low + high) >>> 1;
+            int tile = this.getTile(middle);
+            if(tile < index)
+                low = middle + 1;
+            else if(tile > index)
+                high = middle - 1;
+            else
+                return middle;
+        }
+        throw new IllegalStateException("No saved crop on tile " + index);
+    }
+}
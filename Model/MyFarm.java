@@ -18,58 +18,89 @@ public class MyFarm {
     private int currentDay;
     private Board board;
     private Farmer farmer;
+    private final FarmRandom random;
     private ArrayList<Plant> plants;
     private ArrayList<Tool> tools;
 
     // constants
-    private final int MAXROWS = 5;
-    private final int MAXCOLUMNS = 10;
+    public static final int DEFAULT_ROWS = 5;
+    public static final int DEFAULT_COLUMNS = 10;
+    private final int MAXROWS;
+    private final int MAXCOLUMNS;
 
+    /**
+     * Creates a MyFarm object with the default 10x5 farm lot.
+     */
     public MyFarm() {
+        this(DEFAULT_ROWS, DEFAULT_COLUMNS);
+    }
+
+    /**
+     * Creates a MyFarm object with a farm lot of the given size.
+     * @param rows     the number of rows of the farm lot
+     * @param columns  the number of columns of the farm lot
+     */
+    public MyFarm(int rows, int columns) {
+        this(rows, columns, new FarmRandom());
+    }
+
+    /**
+     * Creates a MyFarm object with a farm lot of the given size, which uses the given
+     * random source. Farms with the same random source seed and the same actions
+     * always give the same results.
+     * @param rows     the number of rows of the farm lot
+     * @param columns  the number of columns of the farm lot
+     * @param random   the random source of the farm
+     */
+    public MyFarm(int rows, int columns, FarmRandom random) {
+        if(rows <= 0 || columns <= 0)
+            throw new IllegalArgumentException("Invalid farm lot size: " + rows + "x" + columns);
+
         // initialize elements
+        this.MAXROWS = rows;
+        this.MAXCOLUMNS = columns;
         this.currentDay = 1;
-        this.board = new Board(MAXROWS, MAXCOLUMNS);
+        this.random = random;
+        this.board = new Board(MAXROWS, MAXCOLUMNS, random);
         this.farmer = new Farmer();
         this.plants = new ArrayList<>();
         this.tools = new ArrayList<>();
 
-        // plants
-        Turnip turnip = new Turnip();
-        Carrot carrot = new Carrot();
-        Potato potato = new Potato();
-        Rose rose = new Rose();
-        Turnips turnips = new Turnips();
-        Sunflower sunflower = new Sunflower();
-        Mango mango = new Mango();
-        Apple apple = new Apple();
-
-        this.plants.add(turnip);
-        this.plants.add(carrot);
-        this.plants.add(potato);
-        this.plants.add(rose);
-        this.plants.add(turnips);
-        this.plants.add(sunflower);
-        this.plants.add(mango);
-        this.plants.add(apple);
-
-        // tools
-        Plow plow = new Plow();
-        WateringCan wateringCan = new WateringCan();
-        Fertilizer fertilizer = new Fertilizer();
-        Pickaxe pickaxe = new Pickaxe();
-        Shovel shovel = new Shovel();
-
-        this.tools.add(plow);
-        this.tools.add(wateringCan);
-        this.tools.add(fertilizer);
-        this.tools.add(pickaxe);
-        this.tools.add(shovel);
+        // plants, in the order of their ids
+        for(PlantList plant : PlantList.values())
+            this.plants.add(plant.createPlant());
+
+        // tools, which are shared by every farm
+        this.tools.add(ToolType.PLOW.getTool());
+        this.tools.add(ToolType.WATERINGCAN.getTool());
+        this.tools.add(ToolType.FERTILIZER.getTool());
+        this.tools.add(ToolType.PICKAXE.getTool());
+        this.tools.add(ToolType.SHOVEL.getTool());
+    }
+
+    /**
+     * Advances the game to the next day, updating every plant and tile on the board.
+     */
+    public void advanceDay() {
+        this.currentDay++;
+        this.board.advanceDay();
+    }
+
+    /**
+     * Advances the game by the given number of days in one step. Every plant and tile
+     * on the board ends up the same as if the game was advanced one day at a time.
+     * @param days the number of days to advance
+     */
+    public void advanceDays(int days) {
+        this.board.advanceDays(days);
+        this.currentDay += days;
     }
 
     /**
      * Checks if the game's losing conditions are met. These conditions include having
      * no more active crops and zero Objectcoins or having a lot that is totally
-     * filled with withered crops.
+     * filled with withered crops. The board stats read here are kept up to date by
+     * the board, so no tile is counted.
      *
      * @return 1 if the player no longer has crops and enough money to buy seeds,
      *         2 if all the tiles have withered crops
@@ -84,7 +115,7 @@ public class MyFarm {
             // no more crops and no longer have enough money to buy seeds
             return 1;
         } else if(!(this.board.getWitheredCropCount() <
-                   (this.MAXROWS * this.MAXCOLUMNS))) {
+                   ((long)this.MAXROWS * this.MAXCOLUMNS))) {
             // all tiles have withered crops
             return 2;
         }
@@ -94,8 +125,8 @@ public class MyFarm {
 
     // getters and setters
     /**
-     * Gets the maximum number of rows applied to the board. MyFarm has
-     * 5 maximum rows as it is a 10x5 farm lot.
+     * Gets the maximum number of rows applied to the board. By default, MyFarm
+     * has 5 maximum rows as it is a 10x5 farm lot.
      * @return the maximum number of rows of the farm lot.
      */
     public int getMAXROWS() {
@@ -103,8 +134,8 @@ public class MyFarm {
     }
 
     /**
-     * Gets the maximum number of columns applied to the board. MyFarm has
-     * 10 maximum rows as it is a 10x5 farm lot.
+     * Gets the maximum number of columns applied to the board. By default, MyFarm
+     * has 10 maximum columns as it is a 10x5 farm lot.
      * @return the maximum number of columns of the farm lot.
      */
     public int getMAXCOLUMNS() {
@@ -150,6 +181,14 @@ public class MyFarm {
         return farmer;
     }
 
+    /**
+     * Gets the random source of the farm.
+     * @return the farm's random source.
+     */
+    public FarmRandom getRandom() {
+        return random;
+    }
+
     /**
      * Sets the farmer of the game.
      * @param farmer My Farm's farmer
@@ -10,17 +10,11 @@ package Model.Plants;
 public class Apple extends Plant {
 
     /**
-     * Creates an instance of an apple. To create an Apple object, one must supply its
-     * name, crop type, growth time, water and fertilizer needs, water and fertilizer
-     * bonus limits, number of products produced, seed cost, base selling cost, and
-     * experience yielded.
+     * Creates an instance of an apple. Its name, crop type, growth time, water and fertilizer
+     * needs, water and fertilizer bonus limits, number of products produced, seed cost,
+     * base selling cost, and experience yielded are read from PlantList.APPLE.
      */
     public Apple() {
-        super(PlantList.APPLE, PlantList.APPLE.getCropType(),
-              PlantList.APPLE.getGrowingTimeDays(), PlantList.APPLE.getWaterNeeds(),
-              PlantList.APPLE.getWaterBonusLimit(), PlantList.APPLE.getFertilizerNeeds(),
-              PlantList.APPLE.getFertilizerBonusLimit(), PlantList.APPLE.getProductNumLowerLimit(),
-              PlantList.APPLE.getProductNumUpperLimit(), PlantList.APPLE.getSeedCost(),
-              PlantList.APPLE.getBaseSellingCost(), PlantList.APPLE.getExpYield());
+        super(PlantList.APPLE);
     }
 }
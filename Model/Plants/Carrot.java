@@ -10,17 +10,11 @@ package Model.Plants;
 public class Carrot extends Plant {
 
     /**
-     * Creates an instance of a carrot. To create a Carrot object, one must supply its
-     * name, crop type, growth time, water and fertilizer needs, water and fertilizer
-     * bonus limits, number of products produced, seed cost, base selling cost, and
-     * experience yielded.
+     * Creates an instance of a carrot. Its name, crop type, growth time, water and fertilizer
+     * needs, water and fertilizer bonus limits, number of products produced, seed cost,
+     * base selling cost, and experience yielded are read from PlantList.CARROT.
      */
     public Carrot() {
-        super(PlantList.CARROT, PlantList.CARROT.getCropType(),
-              PlantList.CARROT.getGrowingTimeDays(), PlantList.CARROT.getWaterNeeds(),
-              PlantList.CARROT.getWaterBonusLimit(), PlantList.CARROT.getFertilizerNeeds(),
-              PlantList.CARROT.getFertilizerBonusLimit(), PlantList.CARROT.getProductNumLowerLimit(),
-              PlantList.CARROT.getProductNumUpperLimit(), PlantList.CARROT.getSeedCost(),
-              PlantList.CARROT.getBaseSellingCost(), PlantList.CARROT.getExpYield());
+        super(PlantList.CARROT);
     }
 }
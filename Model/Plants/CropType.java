@@ -0,0 +1,75 @@
+package Model.Plants;
+
+import Model.Board;
+
+/**
+ * This enum represents the types of crops in the game, which are root crops, flowers,
+ * and fruit trees. Each type has its own rules on selling and planting.
+ * <p>
+ *     Flowers are sold with a 10% premium on their final harvest price, and fruit
+ *     trees can only be planted on tiles that are not at the lot's edge and whose
+ *     adjacent tiles are all unoccupied.
+ * </p>
+ */
+public enum CropType {
+
+    ROOT_CROP("Root Crop", 1.0d),
+    FLOWER("Flower", 1.1d),
+    FRUIT_TREE("Fruit Tree", 1.0d) {
+        /**
+         * Checks if a fruit tree can be planted on the tile at the given position,
+         * which needs the tile to be away from the edge and its adjacent tiles to
+         * be unoccupied.
+         * @param board  the board where the crop is planted
+         * @param row    the row number of the tile (beginning at index 0)
+         * @param col    the column number of the tile (beginning at index 0)
+         * @return true if a fruit tree can be planted on the tile, false if otherwise.
+         */
+        @Override
+        public boolean canBePlanted(Board board, int row, int col) {
+            return board.canPlantFruit(row, col);
+        }
+    };
+
+    private final String typeName;
+    private final double priceMultiplier;
+
+    /**
+     * Creates a crop type with its name and the multiplier applied to its final
+     * harvest price.
+     * @param typeName         the name of the crop type
+     * @param priceMultiplier  the multiplier of the final harvest price
+     */
+    CropType(String typeName, double priceMultiplier) {
+        this.typeName = typeName;
+        this.priceMultiplier = priceMultiplier;
+    }
+
+    /**
+     * Checks if a crop of this type can be planted on the tile at the given position,
+     * apart from the tile being plowed and unoccupied.
+     * @param board  the board where the crop is planted
+     * @param row    the row number of the tile (beginning at index 0)
+     * @param col    the column number of the tile (beginning at index 0)
+     * @return true if the crop can be planted on the tile, false if otherwise.
+     */
+    public boolean canBePlanted(Board board, int row, int col) {
+        return true;
+    }
+
+    /**
+     * Gets the name of the crop type.
+     * @return the crop type's name.
+     */
+    public String getTypeName() {
+        return typeName;
+    }
+
+    /**
+     * Gets the multiplier applied to the final harvest price of crops of this type.
+     * @return the price multiplier of the crop type.
+     */
+    public double getPriceMultiplier() {
+        return priceMultiplier;
+    }
+}
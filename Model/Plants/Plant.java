@@ -1,102 +1,57 @@
 package Model.Plants;
 
+import Model.FarmRandom;
+
 /**
  * This abstract class represents the blueprint for each plant or
  * crop available in MyFarm.
  * <p>
  *     A plant object keeps track of its current growth, the number of times it was
  *     watered and fertilized, and its status (fully grown, growing, or withered).
- *     It also takes note of the number of products it produced and its selling prices
- *     when harvested and sold. A plant also has constant allocated attributes depending
- *     on the crop.
+ *     The number of products it produces is decided by the random seed it is given
+ *     when planted. The constant attributes of the crop are not copied into each
+ *     plant; they are read from the plant's entry in PlantList, which every plant of
+ *     the same kind shares.
  * </p>
  */
 public abstract class Plant {
 
     // dynamic attributes
+    private int plantedDay = 0;
+    private long randomSeed = 0L;
     private int currentGrowthDays = 0;
-    private int growthDaysLeft;
     private int wateredCount = 0;
     private int fertilizedCount = 0;
-    private int productsProduced;
     private boolean isReadyToHarvest = false;
     private boolean isWithered = false;
-    private double harvestTotal;
-    private double waterBonus;
-    private double fertilizerBonus;
-    private double finalHarvestPrice;
 
     // constant attributes
     private PlantList name;
-    private final String cropType;
-    private final int growingTimeDays;
-    private final int waterNeeds;
-    private final int waterBonusLimit;
-    private final int fertilizerNeeds;
-    private final int fertilizerBonusLimit;
-    private final int productNumLowerLimit;
-    private final int productNumUpperLimit;
-    private final double seedCost;
-    private final double baseSellingCost;
-    private final double expYield;
-
-    /**
-     * Creates a plant object with its name, crop type, growing time in days, water and
-     * fertilizer needs, water and fertilizer bonus limits, number of products produced,
-     * seed cost, base selling cost, and experience yield per crop.
-     * @param name                  the name of the plant
-     * @param cropType              the type of crop
-     * @param growingTimeDays       the amount of days for the plant to grow
-     * @param waterNeeds            the amount of water that a plant needs
-     * @param waterBonusLimit       the bonus limit of the number of times a
-     *                              plant is watered in computing for the price
-     * @param fertilizerNeeds       the amount of fertilizer a plant needs
-     * @param fertilizerBonusLimit  the bonus limit of the times a plant is
-     *                              fertilized in computing for the price
-     * @param productNumLowerLimit  the lower bound of the products produced
-     * @param productNumUpperLimit  the upper bound of the products produced
-     * @param seedCost              the cost of buying the seed
-     * @param baseSellingCost       the base cost when selling the seed
-     * @param expYield              the experience given per product
-     */
-    public Plant(PlantList name, String cropType, int growingTimeDays, int waterNeeds,
-                 int waterBonusLimit, int fertilizerNeeds, int fertilizerBonusLimit,
-                 int productNumLowerLimit, int productNumUpperLimit, double seedCost,
-                 double baseSellingCost, double expYield) {
+
+    /**
+     * Creates a plant object of the given kind of plant, whose constant attributes
+     * are read from the plant list.
+     * @param name the name of the plant
+     */
+    public Plant(PlantList name) {
         this.name = name;
-        this.cropType = cropType;
-        this.growingTimeDays = growingTimeDays;
-        this.waterNeeds = waterNeeds;
-        this.waterBonusLimit = waterBonusLimit;
-        this.fertilizerNeeds = fertilizerNeeds;
-        this.fertilizerBonusLimit = fertilizerBonusLimit;
-        this.productNumLowerLimit = productNumLowerLimit;
-        this.productNumUpperLimit = productNumUpperLimit;
-        this.seedCost = seedCost;
-        this.baseSellingCost = baseSellingCost;
-        this.expYield = expYield;
     }
 
     /**
      * Updates the status of plants to withered or ready-to-harvest if the growing
      * conditions are not met or met, respectively. The total number of products
-     * produced is also computed here if the plant becomes ready to harvest.
-     * Credit for random number generator with upper and lower limit:
-     * https://www.educative.io/answers/how-to-generate-random-numbers-in-java
+     * produced is also computed here if the plant becomes ready to harvest, and is
+     * decided by the random seed that the plant was given when it was planted.
      */
     public void updatePlantStatus() {
-        if((this.currentGrowthDays > this.growingTimeDays) ||
-           ((this.fertilizedCount < this.fertilizerNeeds ||
-             this.wateredCount < this.waterNeeds) && this.growthDaysLeft == 0)) {
+        int growthDaysLeft = this.getGrowthDaysLeft();
+        if((this.currentGrowthDays > this.name.getGrowingTimeDays()) ||
+           ((this.fertilizedCount < this.name.getFertilizerNeeds() ||
+             this.wateredCount < this.name.getWaterNeeds()) && growthDaysLeft == 0)) {
             this.isWithered = true;
             this.isReadyToHarvest = false;
-            this.productsProduced = 0;
-        } else if(this.growthDaysLeft == 0) {
+        } else if(growthDaysLeft == 0) {
             this.isReadyToHarvest = true;
-            this.productsProduced  = (int)Math.floor(Math.random() *
-                                     (this.productNumUpperLimit -
-                                      this.productNumLowerLimit + 1) +
-                                      this.productNumLowerLimit);
         }
     }
 
@@ -113,27 +68,27 @@ public abstract class Plant {
 
         String plantInfo = "PLANT INFORMATION\n" + "-".repeat(106) +
                 "\nName: " + this.name.getSeedName() +
-                "\t".repeat(tabCount) + "Type: " + this.cropType +
-                "\nGrowing Time: " + this.growingTimeDays + " day(s) " +
-                "\t\tWater Needed: " + this.waterNeeds +
-                "\nWater Bonus Limit: " + this.waterBonusLimit +
-                "\t\tFertilizer Needed: " + this.fertilizerNeeds +
-                "\nFertilizer Bonus Limit: " + this.fertilizerBonusLimit;
+                "\t".repeat(tabCount) + "Type: " + this.name.getCropType().getTypeName() +
+                "\nGrowing Time: " + this.name.getGrowingTimeDays() + " day(s) " +
+                "\t\tWater Needed: " + this.name.getWaterNeeds() +
+                "\nWater Bonus Limit: " + this.name.getWaterBonusLimit() +
+                "\t\tFertilizer Needed: " + this.name.getFertilizerNeeds() +
+                "\nFertilizer Bonus Limit: " + this.name.getFertilizerBonusLimit();
 
         // separate those with only 1 constant product count from those with range
-        if(this.productNumLowerLimit == this.productNumUpperLimit)
+        if(this.name.getProductNumLowerLimit() == this.name.getProductNumUpperLimit())
             plantInfo = plantInfo.concat("\t\tProducts Produced: " +
-                    this.productNumLowerLimit);
+                    this.name.getProductNumLowerLimit());
         else
             plantInfo = plantInfo.concat("\t\tProducts Produced: " +
-                    this.productNumLowerLimit + "-" +
-                    this.productNumUpperLimit);
+                    this.name.getProductNumLowerLimit() + "-" +
+                    this.name.getProductNumUpperLimit());
 
         plantInfo = plantInfo.concat(
-                "\nSeed Cost: " + this.seedCost + " Objectcoins" +
-                        "\nBase Selling Cost per Product: " + this.baseSellingCost +
+                "\nSeed Cost: " + this.name.getSeedCost() + " Objectcoins" +
+                        "\nBase Selling Cost per Product: " + this.name.getBaseSellingCost() +
                         " Objectcoins" + "\nExperience Yield per Crop: " +
-                        this.expYield + " XP");
+                        this.name.getExpYield() + " XP");
         return plantInfo;
     }
 
@@ -155,34 +110,61 @@ public abstract class Plant {
     }
 
     /**
-     * Increments the number of days that have passed since the plant was planted.
+     * Gets the random seed that decides the number of products the plant produces.
+     * @return the random seed of the plant.
      */
-    public void addCurrentGrowthDays() {
-        this.currentGrowthDays++;
+    public long getRandomSeed() {
+        return randomSeed;
     }
 
     /**
-     * Gets the number of days left before the plant becomes ready to harvest.
-     * @return the plant's days left of growing.
+     * Sets the random seed that decides the number of products the plant produces.
+     * @param randomSeed the random seed of the plant
      */
-    public int getGrowthDaysLeft() {
-        return growthDaysLeft;
+    public void setRandomSeed(long randomSeed) {
+        this.randomSeed = randomSeed;
+    }
+
+    /**
+     * Gets the day when the plant was planted, counted in days elapsed on the board.
+     * @return the day when the plant was planted.
+     */
+    public int getPlantedDay() {
+        return plantedDay;
+    }
+
+    /**
+     * Sets the day when the plant was planted, counted in days elapsed on the board.
+     * @param plantedDay the day when the plant was planted
+     */
+    public void setPlantedDay(int plantedDay) {
+        this.plantedDay = plantedDay;
     }
 
     /**
-     * Sets the number of days left before the plant becomes ready to harvest.
-     * @param growthDaysLeft an integer representing the plant's number of
-     *                       growth days left before it can be harvested.
+     * Brings the growth days of the plant up to date given the number of days that
+     * have passed since it was planted. This is the same as adding a growth day and
+     * reducing the growth days left once for each of these days.
+     * @param daysSincePlanted the number of days since the plant was planted
      */
-    public void setGrowthDaysLeft(int growthDaysLeft) {
-        this.growthDaysLeft = growthDaysLeft;
+    public void syncGrowth(int daysSincePlanted) {
+        this.currentGrowthDays = daysSincePlanted;
     }
 
     /**
-     * Decrements the number of days left before the plant becomes ready to harvest.
+     * Gets the number of days that have passed since the plant was planted.
+     * @return the plant's current number of growth days.
      */
-    public void reduceGrowthDaysLeft() {
-        this.growthDaysLeft--;
+    public int getCurrentGrowthDays() {
+        return currentGrowthDays;
+    }
+
+    /**
+     * Gets the number of days left before the plant becomes ready to harvest.
+     * @return the plant's days left of growing.
+     */
+    public int getGrowthDaysLeft() {
+        return Math.max(this.name.getGrowingTimeDays() - this.currentGrowthDays, 0);
     }
 
     /**
@@ -200,6 +182,14 @@ public abstract class Plant {
         this.wateredCount++;
     }
 
+    /**
+     * Sets the number of times a plant has been watered.
+     * @param wateredCount the number of times the plant has been watered
+     */
+    public void setWateredCount(int wateredCount) {
+        this.wateredCount = wateredCount;
+    }
+
     /**
      * Gets the number of times a plant has been fertilized.
      * @return the number of times a plant has been fertilized.
@@ -215,6 +205,14 @@ public abstract class Plant {
         this.fertilizedCount++;
     }
 
+    /**
+     * Sets the number of times a plant has been fertilized.
+     * @param fertilizedCount the number of times the plant has been fertilized
+     */
+    public void setFertilizedCount(int fertilizedCount) {
+        this.fertilizedCount = fertilizedCount;
+    }
+
     /**
      * Gets the status of the plant whether it is ready to harvest or not.
      * @return true if the plant is ready to harvest, false if otherwise.
@@ -235,11 +233,15 @@ public abstract class Plant {
 
     /**
      * Gets the number of products that the plant produced upon becoming
-     * ready to harvest.
-     * @return the number of products produced by the plant.
+     * ready to harvest, which is decided by the plant's random seed.
+     * @return the number of products produced by the plant, or 0 if the plant
+     *         is not ready to harvest.
      */
     public int getProductsProduced() {
-        return productsProduced;
+        if(!this.isReadyToHarvest)
+            return 0;
+        return FarmRandom.nextInt(this.randomSeed, this.name.getProductNumLowerLimit(),
+                                  this.name.getProductNumUpperLimit() + 1);
     }
 
     /**
@@ -251,85 +253,21 @@ public abstract class Plant {
     }
 
     /**
-     * Gets the value of the price of the harvested products without the
-     * applied bonuses when selling.
-     * @return the price of the harvest without the bonuses yet (not final selling price)
-     */
-    public double getHarvestTotal() {
-        return harvestTotal;
-    }
-
-    /**
-     * Sets the value of the price of the harvested products, computed by
-     * multiplying the number of products produced and the sum of the plant's
-     * base selling cost and the farmer's bonus earnings per product.
-     * @param harvestTotal the price of the harvest without the bonuses yet
-     *                     (not final selling price).
-     */
-    public void setHarvestTotal(double harvestTotal) {
-        this.harvestTotal = harvestTotal;
-    }
-
-    /**
-     * Gets the computed water bonus of the harvest.
-     * @return the water bonus of the harvest.
-     */
-    public double getWaterBonus() {
-        return waterBonus;
-    }
-
-    /**
-     * Sets the computed water bonus of the harvest, computed by multiplying
-     * the 1/5 of the harvest total and the total number of times the crop
-     * is watered (capped by bonus limits) minus 1.
-     * @param waterBonus the computed water bonus of the harvest.
-     */
-    public void setWaterBonus(double waterBonus) {
-        this.waterBonus = waterBonus;
-    }
-
-    /**
-     * Gets the computed fertilizer bonus of the harvest.
-     * @return the fertilizer bonus of the harvest.
-     */
-    public double getFertilizerBonus() {
-        return fertilizerBonus;
-    }
-
-    /**
-     * Sets the computed fertilizer bonus of the harvest, computed by
-     * multiplying 1/2 of the harvest total to the total number of times
-     * the crop was fertilized.
-     * @param fertilizerBonus the fertilizer bonus of the harvest.
-     */
-    public void setFertilizerBonus(double fertilizerBonus) {
-        this.fertilizerBonus = fertilizerBonus;
-    }
-
-    /**
-     * Gets the final computed harvest price, which is the final amount the
-     * harvest is sold for, and the amount that the farmer obtains.
-     * @return the final price of the harvest.
-     */
-    public double getFinalHarvestPrice() {
-        return finalHarvestPrice;
-    }
-
-    /**
-     * Sets the final computed harvest price, computed by adding the harvest
-     * total, the water bonus, and the fertilizer bonus of the harvest.
-     * @param finalHarvestPrice the final price of the harvest
+     * Sets the status of the plant to either withered or not, based on the
+     * value provided.
+     * @param isWithered boolean variable that implies whether the plant is
+     *                   withered or not
      */
-    public void setFinalHarvestPrice(double finalHarvestPrice) {
-        this.finalHarvestPrice = finalHarvestPrice;
+    public void setIsWithered(boolean isWithered) {
+        this.isWithered = isWithered;
     }
 
     /**
      * Gets the type of crop the plant has.
      * @return the plant's crop type.
      */
-    public String getCropType() {
-        return cropType;
+    public CropType getCropType() {
+        return this.name.getCropType();
     }
 
     /**
@@ -337,7 +275,7 @@ public abstract class Plant {
      * @return the number of days a plant needs to grow.
      */
     public int getGrowingTimeDays() {
-        return growingTimeDays;
+        return this.name.getGrowingTimeDays();
     }
 
     /**
@@ -345,7 +283,7 @@ public abstract class Plant {
      * @return the amount of water a plant needs.
      */
     public int getWaterNeeds() {
-        return waterNeeds;
+        return this.name.getWaterNeeds();
     }
 
     /**
@@ -353,7 +291,7 @@ public abstract class Plant {
      * @return the plant's water bonus limit.
      */
     public int getWaterBonusLimit() {
-        return waterBonusLimit;
+        return this.name.getWaterBonusLimit();
     }
 
     /**
@@ -361,7 +299,7 @@ public abstract class Plant {
      * @return the amount of fertilizer a plant needs.
      */
     public int getFertilizerNeeds() {
-        return fertilizerNeeds;
+        return this.name.getFertilizerNeeds();
     }
 
     /**
@@ -369,7 +307,7 @@ public abstract class Plant {
      * @return the plant's fertilizer bonus limit.
      */
     public int getFertilizerBonusLimit() {
-        return fertilizerBonusLimit;
+        return this.name.getFertilizerBonusLimit();
     }
 
     /**
@@ -377,7 +315,7 @@ public abstract class Plant {
      * @return the plant's seed cost.
      */
     public double getSeedCost() {
-        return seedCost;
+        return this.name.getSeedCost();
     }
 
     /**
@@ -385,7 +323,7 @@ public abstract class Plant {
      * @return the plant's base selling cost.
      */
     public double getBaseSellingCost() {
-        return baseSellingCost;
+        return this.name.getBaseSellingCost();
     }
 
     /**
@@ -393,6 +331,6 @@ public abstract class Plant {
      * @return the amount of experience a plant gives when harvested.
      */
     public double getExpYield() {
-        return expYield;
+        return this.name.getExpYield();
     }
 }
@@ -1,5 +1,7 @@
 package Model.Plants;
 
+import java.util.function.Supplier;
+
 /**
  * This enum represents the list of plants available in the game, including
  * turnip, carrot, potato, rose, turnips, sunflower, mango, and apple. Each
@@ -10,36 +12,50 @@ package Model.Plants;
  *     fertilizer bonus limits, products produced, seed cost, base selling
  *     cost, and experience yielded.
  * </p>
+ * <p>
+ *     The list is also the registry of the crops in the game. Each plant has an id
+ *     (its position in the list), a factory that creates a new plant of its kind, and
+ *     the sprite displayed when it is fully grown, so a new crop is added by adding
+ *     an entry here and its Plant subclass.
+ * </p>
  */
 public enum PlantList {
 
-    TURNIP("Turnip", "Root crop", 2, 1,
+    TURNIP("Turnip", CropType.ROOT_CROP, 2, 1,
             2, 0, 1, 1,
-            2, 5.0d, 6.0d, 5.0d),
-    CARROT("Carrot", "Root Crop", 3, 1,
+            2, 5.0d, 6.0d, 5.0d,
+            "sprites\\turnip.png", Turnip::new),
+    CARROT("Carrot", CropType.ROOT_CROP, 3, 1,
             2, 0, 1, 1,
-            2, 10.0d, 9.0d, 7.5d),
-    POTATO("Potato", "Root Crop", 5, 3,
+            2, 10.0d, 9.0d, 7.5d,
+            "sprites\\carrot.png", Carrot::new),
+    POTATO("Potato", CropType.ROOT_CROP, 5, 3,
             4, 1, 2, 1,
-            10, 20.0d, 3.0d, 12.5d),
-    ROSE("Rose", "Flower", 1, 1,
+            10, 20.0d, 3.0d, 12.5d,
+            "sprites\\potato.png", Potato::new),
+    ROSE("Rose", CropType.FLOWER, 1, 1,
             2, 0, 1, 1,
-            1, 5.0d, 5.0d, 2.5d),
-    TURNIPS("Turnips", "Flower", 2, 2,
+            1, 5.0d, 5.0d, 2.5d,
+            "sprites\\rose.png", Rose::new),
+    TURNIPS("Turnips", CropType.FLOWER, 2, 2,
             3, 0, 1, 1,
-            1, 10.0d, 9.0d, 5.0d),
-    SUNFLOWER("Sunflower", "Flower", 3, 2,
+            1, 10.0d, 9.0d, 5.0d,
+            "sprites\\turnips.png", Turnips::new),
+    SUNFLOWER("Sunflower", CropType.FLOWER, 3, 2,
             3, 1, 2, 1,
-            1, 20.0d, 19.0d, 7.5d),
-    MANGO("Mango", "Fruit Tree", 10, 7,
+            1, 20.0d, 19.0d, 7.5d,
+            "sprites\\sunflower.png", Sunflower::new),
+    MANGO("Mango", CropType.FRUIT_TREE, 10, 7,
             7, 4, 4, 5,
-            15, 100.0d, 8.0d, 25.0d),
-    APPLE("Apple", "Fruit Tree", 10, 7,
+            15, 100.0d, 8.0d, 25.0d,
+            "sprites\\mango.png", Mango::new),
+    APPLE("Apple", CropType.FRUIT_TREE, 10, 7,
             7, 5, 5, 10,
-            15, 200.0d, 5.0d, 25.0d);
+            15, 200.0d, 5.0d, 25.0d,
+            "sprites\\apple.png", Apple::new);
 
     private final String seedName;
-    private final String cropType;
+    private final CropType cropType;
     private final int growingTimeDays;
     private final int waterNeeds;
     private final int waterBonusLimit;
@@ -50,12 +66,17 @@ public enum PlantList {
     private final double seedCost;
     private final double baseSellingCost;
     private final double expYield;
+    private final String spritePath;
+    private final Supplier<Plant> factory;
+
+    // the plants in the order of their ids
+    private static final PlantList[] PLANTS = values();
 
     /**
      * Creates a plant data type with its seed name, crop type,
      * growing time in days, water and fertilizer needs, water and fertilizer
      * bonus limits, number of products produced, seed cost, base selling cost,
-     * and experience yield per crop.
+     * experience yield per crop, sprite, and factory.
      *
      * @param seedName              the name of the seed/plant
      * @param cropType              the type of crop
@@ -71,9 +92,11 @@ public enum PlantList {
      * @param seedCost              the cost of buying the seed
      * @param baseSellingCost       the base cost when selling the seed
      * @param expYield              the experience given per product
+     * @param spritePath            the location of the sprite of the fully grown plant
+     * @param factory               the factory that creates a plant of this kind
      */
     PlantList(String seedName,
-              String cropType,
+              CropType cropType,
               int growingTimeDays,
               int waterNeeds,
               int waterBonusLimit,
@@ -83,7 +106,9 @@ public enum PlantList {
               int productNumUpperLimit,
               double seedCost,
               double baseSellingCost,
-              double expYield) {
+              double expYield,
+              String spritePath,
+              Supplier<Plant> factory) {
         this.seedName = seedName;
         this.cropType = cropType;
         this.growingTimeDays = growingTimeDays;
@@ -96,6 +121,27 @@ public enum PlantList {
         this.seedCost = seedCost;
         this.baseSellingCost = baseSellingCost;
         this.expYield = expYield;
+        this.spritePath = spritePath;
+        this.factory = factory;
+    }
+
+    /**
+     * Gets the plant with the given id.
+     * @param id the id of the plant
+     * @return the plant with the id.
+     */
+    public static PlantList fromId(int id) {
+        if(id < 0 || id >= PLANTS.length)
+            throw new IllegalArgumentException("Invalid plant id: " + id);
+        return PLANTS[id];
+    }
+
+    /**
+     * Creates a new plant of this kind, ready to be planted.
+     * @return the new plant.
+     */
+    public Plant createPlant() {
+        return this.factory.get();
     }
 
     /**
@@ -110,7 +156,7 @@ public enum PlantList {
      * Gets the type of crop (either Root Crop, Flower, or Fruit Tree)
      * @return the crop type of the plant.
      */
-    public String getCropType() {
+    public CropType getCropType() {
         return cropType;
     }
 
@@ -195,4 +241,20 @@ public enum PlantList {
     public double getExpYield() {
         return expYield;
     }
+
+    /**
+     * Gets the id of the plant, which is its position in the list of plants.
+     * @return the id of the plant.
+     */
+    public int getId() {
+        return this.ordinal();
+    }
+
+    /**
+     * Gets the location of the sprite displayed when the plant is fully grown.
+     * @return the file path of the plant's sprite.
+     */
+    public String getSpritePath() {
+        return spritePath;
+    }
 }
@@ -9,17 +9,11 @@ package Model.Plants;
 public class Potato extends Plant {
 
     /**
-     * Creates an instance of a potato. To create a Potato object, one must supply its
-     * name, crop type, growth time, water and fertilizer needs, water and fertilizer
-     * bonus limits, number of products produced, seed cost, base selling cost, and
-     * experience yielded.
+     * Creates an instance of a potato. Its name, crop type, growth time, water and fertilizer
+     * needs, water and fertilizer bonus limits, number of products produced, seed cost,
+     * base selling cost, and experience yielded are read from PlantList.POTATO.
      */
     public Potato() {
-        super(PlantList.POTATO, PlantList.POTATO.getCropType(),
-              PlantList.POTATO.getGrowingTimeDays(),  PlantList.POTATO.getWaterNeeds(),
-              PlantList.POTATO.getWaterBonusLimit(), PlantList.POTATO.getFertilizerNeeds(),
-              PlantList.POTATO.getFertilizerBonusLimit(), PlantList.POTATO.getProductNumLowerLimit(),
-              PlantList.POTATO.getProductNumUpperLimit(), PlantList.POTATO.getSeedCost(),
-              PlantList.POTATO.getBaseSellingCost(), PlantList.POTATO.getExpYield());
+        super(PlantList.POTATO);
     }
 }
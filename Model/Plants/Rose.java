@@ -10,17 +10,11 @@ package Model.Plants;
 public class Rose extends Plant {
 
     /**
-     * Creates an instance of a rose. To create a Rose object, one must supply its
-     * name, crop type, growth time, water and fertilizer needs, water and fertilizer
-     * bonus limits, number of products produced, seed cost, base selling cost, and
-     * experience yielded.
+     * Creates an instance of a rose. Its name, crop type, growth time, water and fertilizer
+     * needs, water and fertilizer bonus limits, number of products produced, seed cost,
+     * base selling cost, and experience yielded are read from PlantList.ROSE.
      */
     public Rose() {
-        super(PlantList.ROSE, PlantList.ROSE.getCropType(),
-              PlantList.ROSE.getGrowingTimeDays(), PlantList.ROSE.getWaterNeeds(),
-              PlantList.ROSE.getWaterBonusLimit(), PlantList.ROSE.getFertilizerNeeds(),
-              PlantList.ROSE.getFertilizerBonusLimit(), PlantList.ROSE.getProductNumLowerLimit(),
-              PlantList.ROSE.getProductNumUpperLimit(), PlantList.ROSE.getSeedCost(),
-              PlantList.ROSE.getBaseSellingCost(), PlantList.ROSE.getExpYield());
+        super(PlantList.ROSE);
     }
 }
@@ -10,17 +10,11 @@ package Model.Plants;
 public class Sunflower extends Plant {
 
     /**
-     * Creates an instance of a sunflower. To create a Sunflower object, one must supply its
-     * name, crop type, growth time, water and fertilizer needs, water and fertilizer
-     * bonus limits, number of products produced, seed cost, base selling cost, and
-     * experience yielded.
+     * Creates an instance of a sunflower. Its name, crop type, growth time, water and fertilizer
+     * needs, water and fertilizer bonus limits, number of products produced, seed cost,
+     * base selling cost, and experience yielded are read from PlantList.SUNFLOWER.
      */
     public Sunflower() {
-        super(PlantList.SUNFLOWER, PlantList.SUNFLOWER.getCropType(),
-              PlantList.SUNFLOWER.getGrowingTimeDays(), PlantList.SUNFLOWER.getWaterNeeds(),
-              PlantList.SUNFLOWER.getWaterBonusLimit(), PlantList.SUNFLOWER.getFertilizerNeeds(),
-              PlantList.SUNFLOWER.getFertilizerBonusLimit(), PlantList.SUNFLOWER.getProductNumLowerLimit(),
-              PlantList.SUNFLOWER.getProductNumUpperLimit(), PlantList.SUNFLOWER.getSeedCost(),
-              PlantList.SUNFLOWER.getBaseSellingCost(), PlantList.SUNFLOWER.getExpYield());
+        super(PlantList.SUNFLOWER);
     }
 }
@@ -10,17 +10,11 @@ package Model.Plants;
 public class Turnips extends Plant {
 
     /**
-     * Creates an instance of a turnips. To create a Turnips object, one must supply its
-     * name, crop type, growth time, water and fertilizer needs, water and fertilizer
-     * bonus limits, number of products produced, seed cost, base selling cost, and
-     * experience yielded.
+     * Creates an instance of a turnips. Its name, crop type, growth time, water and fertilizer
+     * needs, water and fertilizer bonus limits, number of products produced, seed cost,
+     * base selling cost, and experience yielded are read from PlantList.TURNIPS.
      */
     public Turnips() {
-        super(PlantList.TURNIPS, PlantList.TURNIPS.getCropType(),
-              PlantList.TURNIPS.getGrowingTimeDays(), PlantList.TURNIPS.getWaterNeeds(),
-              PlantList.TURNIPS.getWaterBonusLimit(), PlantList.TURNIPS.getFertilizerNeeds(),
-              PlantList.TURNIPS.getFertilizerBonusLimit(), PlantList.TURNIPS.getProductNumLowerLimit(),
-              PlantList.TURNIPS.getProductNumUpperLimit(), PlantList.TURNIPS.getSeedCost(),
-              PlantList.TURNIPS.getBaseSellingCost(), PlantList.TURNIPS.getExpYield());
+        super(PlantList.TURNIPS);
     }
 }
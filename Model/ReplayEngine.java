@@ -0,0 +1,276 @@
+package Model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+/**
+ * This class replays a recorded game without any graphical interface, as fast as the
+ * engine can do its actions. A game is recorded by saving a snapshot of its farm when
+ * it starts and giving its engine an action journal.
+ * <p>
+ *     When the replay is opened, the whole game is replayed once, and a snapshot of
+ *     the farm is kept in memory every few days as a keyframe. Seeking to a day starts
+ *     from the latest keyframe on or before that day, so at most the days between two
+ *     keyframes are replayed. Seeking forward from the current day goes on from where
+ *     the replay is.
+ * </p>
+ * <p>
+ *     Seeking to a day stops at the start of the day, before any action done on it.
+ *     Advancing many days in one step is split if needed, which gives the same farm as
+ *     advancing the days one at a time.
+ * </p>
+ */
+public final class ReplayEngine {
+
+    // default number of days between keyframes
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 100;
+
+    // the recorded game
+    private final ByteBuffer records;
+    private final ArrayList<Keyframe> keyframes = new ArrayList<>();
+    private final int firstDay;
+    private final int lastDay;
+    private final long actionCount;
+
+    // the replay, which is at the given record and day
+    private FarmEngine engine;
+    private int position;
+    private int daysDone;
+    private boolean dayStarted;
+
+    /**
+     * Creates the replay of a game, whose farm starts at the given snapshot.
+     * @param snapshot          the snapshot of the farm when the game starts
+     * @param records           the records of the journal of the game
+     * @param keyframeInterval  the number of days between keyframes
+     * @throws IOException if the snapshot cannot be read
+     */
+    private ReplayEngine(byte[] snapshot, ByteBuffer records, int keyframeInterval) throws IOException {
+        this.records = records;
+
+        // replay the whole game once, keeping a keyframe every few days
+        MyFarm myFarm = FarmSnapshot.read(Channels.newChannel(new ByteArrayInputStream(snapshot)));
+        this.keyframes.add(new Keyframe(snapshot, myFarm.getCurrentDay(), 0, 0));
+        this.engine = new FarmEngine(myFarm);
+        this.firstDay = myFarm.getCurrentDay();
+        long actionCount = 0;
+        int nextKeyframeDay = this.firstDay + keyframeInterval;
+        while(this.position < this.records.limit()) {
+            this.step(Integer.MAX_VALUE);
+            actionCount++;
+            if(this.getCurrentDay() >= nextKeyframeDay) {
+                this.keyframes.add(new Keyframe(toBytes(this.engine.getMyFarm()), this.getCurrentDay(),
+                                                this.position, this.daysDone));
+                nextKeyframeDay = this.getCurrentDay() + keyframeInterval;
+            }
+        }
+        this.lastDay = this.getCurrentDay();
+        this.actionCount = actionCount;
+    }
+
+    /**
+     * Opens the replay of a recorded game.
+     * @param snapshotFile  the snapshot of the farm when the game starts
+     * @param journalFile   the journal of the actions done in the game
+     * @return the replay, at the end of the game.
+     * @throws IOException if the snapshot or the journal cannot be read
+     */
+    public static ReplayEngine open(Path snapshotFile, Path journalFile) throws IOException {
+        return open(snapshotFile, journalFile, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * Opens the replay of a recorded game.
+     * @param snapshotFile      the snapshot of the farm when the game starts
+     * @param journalFile       the journal of the actions done in the game
+     * @param keyframeInterval  the number of days between keyframes
+     * @return the replay, at the end of the game.
+     * @throws IOException if the snapshot or the journal cannot be read
+     */
+    public static ReplayEngine open(Path snapshotFile, Path journalFile,
+                                    int keyframeInterval) throws IOException {
+        if(keyframeInterval < 1)
+            throw new IllegalArgumentException("Keyframe interval must be positive: " + keyframeInterval);
+        return new ReplayEngine(Files.readAllBytes(snapshotFile),
+                                ActionJournal.readRecords(journalFile), keyframeInterval);
+    }
+
+    /**
+     * Seeks to the start of the given day, before any action done on it.
+     * @param day the day to seek to, from the first to the last day of the game
+     * @return the farm at the start of the day.
+     */
+    public MyFarm seekToDay(int day) {
+        if(day < this.firstDay || day > this.lastDay)
+            throw new IllegalArgumentException("Day out of range: " + day + " (" +
+                                               this.firstDay + " to " + this.lastDay + ")");
+
+        // start from the latest keyframe, unless the replay is already closer to the start
+        // of the day
+        Keyframe keyframe = this.keyframes.get(0);
+        for(int i = this.keyframes.size() - 1; i > 0; i--) {
+            if(this.keyframes.get(i).day <= day) {
+                keyframe = this.keyframes.get(i);
+                break;
+            }
+        }
+        int currentDay = this.getCurrentDay();
+        if(currentDay < keyframe.day || currentDay > day || currentDay == day && this.dayStarted)
+            this.restore(keyframe);
+
+        while(this.getCurrentDay() < day)
+            this.step(day);
+        return this.engine.getMyFarm();
+    }
+
+    /**
+     * Seeks to the end of the game, after its last action.
+     * @return the farm at the end of the game.
+     */
+    public MyFarm seekToEnd() {
+        this.seekToDay(this.lastDay);
+        while(this.position < this.records.limit())
+            this.step(Integer.MAX_VALUE);
+        return this.engine.getMyFarm();
+    }
+
+    /**
+     * Gets the current day of the replay.
+     * @return the current day.
+     */
+    public int getCurrentDay() {
+        return this.engine.getMyFarm().getCurrentDay();
+    }
+
+    /**
+     * Gets the first day of the game.
+     * @return the first day.
+     */
+    public int getFirstDay() {
+        return firstDay;
+    }
+
+    /**
+     * Gets the last day of the game.
+     * @return the last day.
+     */
+    public int getLastDay() {
+        return lastDay;
+    }
+
+    /**
+     * Gets the number of actions done in the game.
+     * @return the number of actions.
+     */
+    public long getActionCount() {
+        return actionCount;
+    }
+
+    /**
+     * Gets the number of keyframes kept in memory.
+     * @return the number of keyframes.
+     */
+    public int getKeyframeCount() {
+        return this.keyframes.size();
+    }
+
+    /**
+     * Gets the engine of the replay, which is replaced whenever the replay seeks back
+     * to a keyframe. The engine is only meant to look at the farm, since the replay
+     * goes on from the farm as it is.
+     * @return the engine of the replay.
+     */
+    public FarmEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Does the next action of the game, without advancing past the given day. If
+     * the action advances many days and would go past the day, only the days up to
+     * it are advanced, and the rest are advanced by the next step.
+     * @param day the day not to advance past
+     */
+    private void step(int day) {
+        int type = this.records.get(this.position);
+        if(type != ActionJournal.ADVANCE_DAYS) {
+            this.position = ActionJournal.applyRecord(this.engine, this.records, this.position);
+            this.dayStarted = type != ActionJournal.NEXT_DAY;
+            return;
+        }
+
+        int days = this.records.getInt(this.position + 4) - this.daysDone;
+        int currentDay = this.getCurrentDay();
+        if(days > day - currentDay) {
+            this.engine.advanceDays(day - currentDay);
+            this.daysDone += day - currentDay;
+        } else {
+            this.engine.advanceDays(days);
+            this.position += ActionJournal.RECORD_SIZE;
+            this.daysDone = 0;
+        }
+        this.dayStarted = false;
+    }
+
+    /**
+     * Restores the replay to a keyframe.
+     * @param keyframe the keyframe
+     */
+    private void restore(Keyframe keyframe) {
+        try {
+            MyFarm myFarm = FarmSnapshot.read(Channels.newChannel(new ByteArrayInputStream(keyframe.snapshot)));
+            this.engine = new FarmEngine(myFarm);
+        } catch(IOException e) {
+            // the keyframe was read or written by the replay itself
+            throw new UncheckedIOException(e);
+        }
+        this.position = keyframe.position;
+        this.daysDone = keyframe.daysDone;
+        this.dayStarted = false;
+    }
+
+    /**
+     * Saves a snapshot of a farm into memory.
+     * @param myFarm the farm
+     * @return the snapshot.
+     * @throws IOException if the snapshot cannot be written
+     */
+    private static byte[] toBytes(MyFarm myFarm) throws IOException {
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        FarmSnapshot.write(myFarm, Channels.newChannel(snapshot));
+        return snapshot.toByteArray();
+    }
+
+    /**
+     * This class represents a snapshot of the farm kept in memory, along with the
+     * place in the recorded game where it was taken.
+     */
+    private static final class Keyframe {
+
+        // attributes
+        private final byte[] snapshot;
+        private final int day;
+        private final int position;
+        private final int daysDone;
+
+        /**
+         * Creates a keyframe.
+         * @param snapshot  the snapshot of the farm
+         * @param day       the current day of the farm
+         * @param position  the position of the next record
+         * @param daysDone  the days already advanced of the next record
+         */
+        private Keyframe(byte[] snapshot, int day, int position, int daysDone) {
+            this.snapshot = snapshot;
+            this.day = day;
+            this.position = position;
+            this.daysDone = daysDone;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package Model.Simulation;
+
+import Model.FarmEngine;
+import Model.FarmRandom;
+import Model.MyFarm;
+import Model.Strategies.Strategy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+/**
+ * This class represents a runner that plays many independent games of MyFarm in
+ * parallel and gathers their statistics. Every game starts from the same farm lot
+ * size and the same layout of rocks.
+ * <p>
+ *     The games are divided into tasks on a ForkJoinPool, which lets idle threads
+ *     steal work from busy ones. Each task gets its own random source, split from its
+ *     parent before the task is forked, and its own statistics, which are merged
+ *     when the tasks finish. Nothing is shared between running tasks, and the same
+ *     seed always gives the same statistics no matter how many threads are used.
+ * </p>
+ */
+public class MonteCarloRunner {
+
+    // number of games that a task plays without dividing further
+    private static final int GAMES_PER_TASK = 64;
+
+    // attributes
+    private final int rows;
+    private final int columns;
+    private final ArrayList<String> rockPositions;
+    private final int maxDays;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a runner that uses the common ForkJoinPool.
+     * @param rows           the number of rows of the farm lot
+     * @param columns        the number of columns of the farm lot
+     * @param rockPositions  the positions of the initial rocks, in the rocks file format
+     * @param maxDays        the last day of a game that has not ended yet
+     */
+    public MonteCarloRunner(int rows, int columns, List<String> rockPositions, int maxDays) {
+        this(rows, columns, rockPositions, maxDays, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a runner that uses the given ForkJoinPool.
+     * @param rows           the number of rows of the farm lot
+     * @param columns        the number of columns of the farm lot
+     * @param rockPositions  the positions of the initial rocks, in the rocks file format
+     * @param maxDays        the last day of a game that has not ended yet
+     * @param pool           the pool where the games are played
+     */
+    public MonteCarloRunner(int rows, int columns, List<String> rockPositions, int maxDays,
+                            ForkJoinPool pool) {
+        if(maxDays < 1)
+            throw new IllegalArgumentException("Invalid day limit: " + maxDays);
+
+        this.rows = rows;
+        this.columns = columns;
+        this.rockPositions = new ArrayList<>(rockPositions);
+        this.maxDays = maxDays;
+        this.pool = pool;
+    }
+
+    /**
+     * Reads the positions of the initial rocks from a file, to be read only once for
+     * all the games.
+     * @param filename the name of the rocks file
+     * @return the lines of the file.
+     * @throws IOException if the file cannot be read
+     */
+    public static List<String> readRockPositions(String filename) throws IOException {
+        return Files.readAllLines(Path.of(filename));
+    }
+
+    /**
+     * Plays the given number of games in parallel and gathers their statistics.
+     * @param games       the number of games to play
+     * @param seed        the seed that decides the random sources of all the games
+     * @param playerTurn  the actions done on a game at the start of each day, before
+     *                    the game is advanced to the next day
+     * @return the statistics of all the games.
+     */
+    public SimulationStats runWith(int games, long seed, Consumer<FarmEngine> playerTurn) {
+        if(games < 0)
+            throw new IllegalArgumentException("Number of games cannot be negative: " + games);
+
+        return this.pool.invoke(new GameTask(0, games, new FarmRandom(seed), playerTurn));
+    }
+
+    /**
+     * Plays the given number of games in parallel with the given strategy and gathers
+     * their statistics. The same strategy object plans the days of every game, so it
+     * should keep no state of its own between days.
+     * @param games     the number of games to play
+     * @param seed      the seed that decides the random sources of all the games
+     * @param strategy  the strategy that plans the actions of each day
+     * @return the statistics of all the games.
+     */
+    public SimulationStats run(int games, long seed, Strategy strategy) {
+        Consumer<FarmEngine> playerTurn = farmEngine ->
+                farmEngine.applyAll(strategy.planDay(farmEngine.getFarmView()));
+        return this.runWith(games, seed, playerTurn);
+    }
+
+    /**
+     * Plays a single game until it is over or its day limit is reached, and adds its
+     * results to the given statistics.
+     * @param random      the random source of the game
+     * @param playerTurn  the actions done on the game at the start of each day
+     * @param stats       the statistics where the results are added
+     */
+    private void playGame(FarmRandom random, Consumer<FarmEngine> playerTurn,
+                          SimulationStats stats) {
+        MyFarm myFarm = new MyFarm(this.rows, this.columns, random);
+        myFarm.getBoard().setInitialRocks(this.rockPositions);
+        FarmEngine farmEngine = new FarmEngine(myFarm);
+
+        int outcome = farmEngine.checkIfGameOver();
+        while(outcome == 3 && myFarm.getCurrentDay() < this.maxDays) {
+            playerTurn.accept(farmEngine);
+            farmEngine.advanceDay();
+            outcome = farmEngine.checkIfGameOver();
+        }
+
+        stats.addGame(myFarm.getFarmer().getObjectCoins(), myFarm.getCurrentDay(), outcome,
+                      myFarm.getFarmer().getLevel());
+    }
+
+    /**
+     * This class represents the task of playing a range of games, which divides
+     * itself into two tasks while the range is large.
+     */
+    private class GameTask extends RecursiveTask<SimulationStats> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final FarmRandom random;
+        private final Consumer<FarmEngine> playerTurn;
+
+        /**
+         * Creates a task that plays the games from one number to another.
+         * @param from        the number of the first game (inclusive)
+         * @param to          the number of the last game (exclusive)
+         * @param random      the random source of the task
+         * @param playerTurn  the actions done on a game at the start of each day
+         */
+        GameTask(int from, int to, FarmRandom random, Consumer<FarmEngine> playerTurn) {
+            this.from = from;
+            this.to = to;
+            this.random = random;
+            this.playerTurn = playerTurn;
+        }
+
+        /**
+         * Plays the games of the task, dividing it first if the range is large.
+         * @return the statistics of the games.
+         */
+        @Override
+        protected SimulationStats compute() {
+            if(this.to - this.from <= GAMES_PER_TASK) {
+                SimulationStats stats = new SimulationStats();
+                for(int game = this.from; game < this.to; game++)
+                    playGame(this.random.split(), this.playerTurn, stats);
+                return stats;
+            }
+
+            // split the random sources before forking so the results do not depend
+            // on which thread plays which half
+            int middle = (this.from + this.to) >>> 1;
+            GameTask left = new GameTask(this.from, middle, this.random.split(), this.playerTurn);
+            GameTask right = new GameTask(middle, this.to, this.random.split(), this.playerTurn);
+            right.fork();
+            return left.compute().merge(right.join());
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package Model.Simulation;
+
+/**
+ * This class represents the statistics gathered from a batch of simulated games,
+ * which include the final Objectcoins, the days survived, the game over outcomes,
+ * and the farmer levels reached.
+ * <p>
+ *     Statistics gathered by separate tasks can be merged, so each task keeps its
+ *     own statistics and no task has to wait for another while games are running.
+ * </p>
+ */
+public class SimulationStats {
+
+    // attributes
+    private long gameCount = 0;
+    private double totalObjectCoins = 0.0d;
+    private double minObjectCoins = Double.POSITIVE_INFINITY;
+    private double maxObjectCoins = Double.NEGATIVE_INFINITY;
+    private long totalDaysSurvived = 0;
+    private int maxDaysSurvived = 0;
+    private long totalLevel = 0;
+    private int maxLevel = 0;
+    private final long[] outcomeCounts = new long[4];
+
+    /**
+     * Adds the results of a finished game to the statistics.
+     * @param objectCoins   the farmer's final Objectcoins
+     * @param daysSurvived  the number of days the game lasted
+     * @param outcome       the result of checkIfGameOver() when the game ended
+     * @param level         the farmer's final level
+     */
+    public void addGame(double objectCoins, int daysSurvived, int outcome, int level) {
+        this.gameCount++;
+        this.totalObjectCoins += objectCoins;
+        this.minObjectCoins = Math.min(this.minObjectCoins, objectCoins);
+        this.maxObjectCoins = Math.max(this.maxObjectCoins, objectCoins);
+        this.totalDaysSurvived += daysSurvived;
+        this.maxDaysSurvived = Math.max(this.maxDaysSurvived, daysSurvived);
+        this.totalLevel += level;
+        this.maxLevel = Math.max(this.maxLevel, level);
+        this.outcomeCounts[outcome]++;
+    }
+
+    /**
+     * Adds all the games of the given statistics to these statistics.
+     * @param other the statistics to merge
+     * @return these statistics, after merging.
+     */
+    public SimulationStats merge(SimulationStats other) {
+        this.gameCount += other.gameCount;
+        this.totalObjectCoins += other.totalObjectCoins;
+        this.minObjectCoins = Math.min(this.minObjectCoins, other.minObjectCoins);
+        this.maxObjectCoins = Math.max(this.maxObjectCoins, other.maxObjectCoins);
+        this.totalDaysSurvived += other.totalDaysSurvived;
+        this.maxDaysSurvived = Math.max(this.maxDaysSurvived, other.maxDaysSurvived);
+        this.totalLevel += other.totalLevel;
+        this.maxLevel = Math.max(this.maxLevel, other.maxLevel);
+        for(int outcome = 0; outcome < this.outcomeCounts.length; outcome++)
+            this.outcomeCounts[outcome] += other.outcomeCounts[outcome];
+        return this;
+    }
+
+    /**
+     * Gets all the statistics as text.
+     * @return the string that contains the statistics.
+     */
+    public String getStatsInfo() {
+        return "SIMULATION STATS\n" + "-".repeat(106) +
+                "\nGames: " + this.gameCount +
+                "\nObjectcoins: mean " + String.format("%.1f", this.getMeanObjectCoins()) +
+                ", min " + this.minObjectCoins + ", max " + this.maxObjectCoins +
+                "\nDays Survived: mean " + String.format("%.1f", this.getMeanDaysSurvived()) +
+                ", max " + this.maxDaysSurvived +
+                "\nLevel: mean " + String.format("%.2f", this.getMeanLevel()) +
+                ", max " + this.maxLevel +
+                "\nNo Crops and Objectcoins: " + this.outcomeCounts[1] +
+                "\nAll Crops Withered: " + this.outcomeCounts[2] +
+                "\nSurvived: " + this.outcomeCounts[3];
+    }
+
+    // getters
+    /**
+     * Gets the number of games in the statistics.
+     * @return the number of games.
+     */
+    public long getGameCount() {
+        return gameCount;
+    }
+
+    /**
+     * Gets the mean of the farmers' final Objectcoins.
+     * @return the mean final Objectcoins, or 0 if there are no games.
+     */
+    public double getMeanObjectCoins() {
+        return this.gameCount == 0 ? 0.0d : this.totalObjectCoins / this.gameCount;
+    }
+
+    /**
+     * Gets the lowest final Objectcoins of a farmer.
+     * @return the lowest final Objectcoins.
+     */
+    public double getMinObjectCoins() {
+        return minObjectCoins;
+    }
+
+    /**
+     * Gets the highest final Objectcoins of a farmer.
+     * @return the highest final Objectcoins.
+     */
+    public double getMaxObjectCoins() {
+        return maxObjectCoins;
+    }
+
+    /**
+     * Gets the mean number of days that the games lasted.
+     * @return the mean days survived, or 0 if there are no games.
+     */
+    public double getMeanDaysSurvived() {
+        return this.gameCount == 0 ? 0.0d : (double)this.totalDaysSurvived / this.gameCount;
+    }
+
+    /**
+     * Gets the highest number of days that a game lasted.
+     * @return the highest days survived.
+     */
+    public int getMaxDaysSurvived() {
+        return maxDaysSurvived;
+    }
+
+    /**
+     * Gets the mean of the farmers' final levels.
+     * @return the mean final level, or 0 if there are no games.
+     */
+    public double getMeanLevel() {
+        return this.gameCount == 0 ? 0.0d : (double)this.totalLevel / this.gameCount;
+    }
+
+    /**
+     * Gets the highest final level of a farmer.
+     * @return the highest final level.
+     */
+    public int getMaxLevel() {
+        return maxLevel;
+    }
+
+    /**
+     * Gets the number of games that ended with the given outcome.
+     * @param outcome the result of checkIfGameOver(): 1 if the farmer had no crops and
+     *                not enough Objectcoins, 2 if all crops withered, or 3 if the game
+     *                lasted until the day limit
+     * @return the number of games with the outcome.
+     */
+    public long getOutcomeCount(int outcome) {
+        return outcomeCounts[outcome];
+    }
+}
@@ -0,0 +1,159 @@
+package Model.Strategies;
+
+import Model.ActionType;
+import Model.FarmAction;
+import Model.FarmView;
+import Model.Plants.CropType;
+import Model.Plants.PlantList;
+import Model.TileStatus;
+import Model.Tools.ToolType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class represents a strategy that plants as many fruit trees as the farm lot can
+ * hold. Fruit trees need every adjacent tile to be free when they are planted, so they
+ * are only planted on tiles with an odd row and an odd column (counting from zero),
+ * where no two trees are ever adjacent.
+ * <p>
+ *     The other tiles are filled with turnips to earn the Objectcoins for the trees.
+ *     The next tree goes on the first free tile with the fewest rocks around it. Once
+ *     the farmer can pay for the tree, its fertilizer, and the pickaxe for those rocks,
+ *     the rocks are broken and the turnips around the tile are no longer replanted, so
+ *     the tile becomes free for the tree. Each growing tree is watered and fertilized
+ *     once a day up to its bonus limits.
+ * </p>
+ */
+public class FruitTreeStrategy implements Strategy {
+
+    // attributes
+    private final PlantList fruitTree;
+
+    /**
+     * Creates a strategy that plants mango trees, the cheaper fruit tree.
+     */
+    public FruitTreeStrategy() {
+        this(PlantList.MANGO);
+    }
+
+    /**
+     * Creates a strategy that plants the given fruit tree.
+     * @param fruitTree the fruit tree to plant
+     */
+    public FruitTreeStrategy(PlantList fruitTree) {
+        if(fruitTree.getCropType() != CropType.FRUIT_TREE)
+            throw new IllegalArgumentException("Not a fruit tree: " + fruitTree.getSeedName());
+        this.fruitTree = fruitTree;
+    }
+
+    /**
+     * Plans the actions of the day for every tile of the farm lot.
+     * @param farmView the read-only view of the farm
+     * @return the actions to be done, in order.
+     */
+    @Override
+    public List<FarmAction> planDay(FarmView farmView) {
+        ArrayList<FarmAction> actions = new ArrayList<>();
+        double objectCoins = farmView.getObjectCoins();
+        double fertilizerCost = ToolType.FERTILIZER.getCost();
+        double treeCost = farmView.getSeedCost(this.fruitTree) +
+                          this.fruitTree.getFertilizerNeeds() * fertilizerCost;
+
+        // find the next free tile for a tree, the first one with the fewest rocks around
+        // it, if the farmer can pay for the tree and for breaking the rocks
+        int treeRow = -1, treeCol = -1;
+        int treeRocks = Integer.MAX_VALUE;
+        for(int row = 1; row < farmView.getRows() - 1 && treeRocks > 0; row += 2)
+            for(int col = 1; col < farmView.getColumns() - 1 && treeRocks > 0; col += 2) {
+                int rocks = countAdjacentRocks(farmView, row, col);
+                if(!farmView.getIsOccupied(row, col) && rocks < treeRocks) {
+                    treeRow = row;
+                    treeCol = col;
+                    treeRocks = rocks;
+                }
+            }
+        if(treeRow != -1 && objectCoins < treeCost + treeRocks * ToolType.PICKAXE.getCost())
+            treeRow = treeCol = -1;
+
+        // break the rocks around the tile first, and plant the tree once its adjacent
+        // tiles are free
+        if(treeRow != -1 && treeRocks > 0) {
+            for(int row = treeRow - 1; row <= treeRow + 1; row++)
+                for(int col = treeCol - 1; col <= treeCol + 1; col++)
+                    if(farmView.getHasRock(row, col))
+                        actions.add(FarmAction.useTool(ActionType.PICKAXE, row, col));
+            objectCoins -= treeRocks * ToolType.PICKAXE.getCost();
+        } else if(treeRow != -1 && farmView.canPlantFruit(treeRow, treeCol)) {
+            if(!farmView.getIsPlowed(treeRow, treeCol))
+                actions.add(FarmAction.useTool(ActionType.PLOW, treeRow, treeCol));
+            actions.add(FarmAction.plant(this.fruitTree, treeRow, treeCol));
+            objectCoins -= farmView.getSeedCost(this.fruitTree);
+        }
+
+        for(int row = 0; row < farmView.getRows(); row++) {
+            for(int col = 0; col < farmView.getColumns(); col++) {
+                boolean treeTile = row % 2 == 1 && col % 2 == 1 &&
+                                   row < farmView.getRows() - 1 && col < farmView.getColumns() - 1;
+                boolean nearNextTree = treeRow != -1 && Math.abs(row - treeRow) <= 1 &&
+                                       Math.abs(col - treeCol) <= 1;
+                PlantList crop = farmView.getCrop(row, col);
+                TileStatus status = farmView.getTileStatus(row, col);
+                switch(status) {
+                    case FULLY_GROWN -> actions.add(FarmAction.harvest(row, col));
+                    case WITHERED -> {
+                        if(objectCoins >= ToolType.SHOVEL.getCost()) {
+                            actions.add(FarmAction.useTool(ActionType.SHOVEL, row, col));
+                            objectCoins -= ToolType.SHOVEL.getCost();
+                        }
+                    }
+                    case GROWING -> {
+                        // water and fertilize once a day up to the bonus limits
+                        int waterLimit = crop.getWaterBonusLimit() +
+                                         farmView.getFarmerType().getAddWaterBonusLimit();
+                        int fertilizerLimit = crop.getFertilizerBonusLimit() +
+                                              farmView.getFarmerType().getAddFertBonusLimit();
+                        if(farmView.getWateredCount(row, col) < waterLimit)
+                            actions.add(FarmAction.useTool(ActionType.WATER, row, col));
+                        if(crop == this.fruitTree && objectCoins >= fertilizerCost &&
+                           farmView.getFertilizedCount(row, col) < fertilizerLimit) {
+                            actions.add(FarmAction.useTool(ActionType.FERTILIZE, row, col));
+                            objectCoins -= fertilizerCost;
+                        }
+                    }
+                    case UNPLOWED, PLOWED -> {
+                        // fill the tiles around the trees with turnips
+                        double seedCost = farmView.getSeedCost(PlantList.TURNIP);
+                        if(!treeTile && !nearNextTree && objectCoins >= seedCost) {
+                            if(status == TileStatus.UNPLOWED)
+                                actions.add(FarmAction.useTool(ActionType.PLOW, row, col));
+                            actions.add(FarmAction.plant(PlantList.TURNIP, row, col));
+                            actions.add(FarmAction.useTool(ActionType.WATER, row, col));
+                            objectCoins -= seedCost;
+                        }
+                    }
+                    default -> { }
+                }
+            }
+        }
+
+        return actions;
+    }
+
+    /**
+     * Counts the rocks on the tiles adjacent to the given tile, which is not on the
+     * edge of the farm lot.
+     * @param farmView  the read-only view of the farm
+     * @param row       the row of the tile
+     * @param col       the column of the tile
+     * @return the number of adjacent rocks.
+     */
+    private static int countAdjacentRocks(FarmView farmView, int row, int col) {
+        int rocks = 0;
+        for(int adjacentRow = row - 1; adjacentRow <= row + 1; adjacentRow++)
+            for(int adjacentCol = col - 1; adjacentCol <= col + 1; adjacentCol++)
+                if(farmView.getHasRock(adjacentRow, adjacentCol))
+                    rocks++;
+        return rocks;
+    }
+}
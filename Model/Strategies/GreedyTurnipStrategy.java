@@ -0,0 +1,66 @@
+package Model.Strategies;
+
+import Model.ActionType;
+import Model.FarmAction;
+import Model.FarmView;
+import Model.Plants.PlantList;
+import Model.TileStatus;
+import Model.Tools.ToolType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class represents a strategy that fills the farm lot with turnips, the cheapest
+ * and fastest crop. Each day, it harvests every fully grown crop, clears withered
+ * crops, plows every free tile and plants a turnip on it while there are enough
+ * Objectcoins, and waters every growing turnip up to its water bonus limit. Rocks are
+ * left alone.
+ */
+public class GreedyTurnipStrategy implements Strategy {
+
+    /**
+     * Plans the actions of the day for every tile of the farm lot.
+     * @param farmView the read-only view of the farm
+     * @return the actions to be done, in order.
+     */
+    @Override
+    public List<FarmAction> planDay(FarmView farmView) {
+        ArrayList<FarmAction> actions = new ArrayList<>();
+        double objectCoins = farmView.getObjectCoins();
+        double seedCost = farmView.getSeedCost(PlantList.TURNIP);
+        int waterLimit = PlantList.TURNIP.getWaterBonusLimit() +
+                         farmView.getFarmerType().getAddWaterBonusLimit();
+
+        for(int row = 0; row < farmView.getRows(); row++) {
+            for(int col = 0; col < farmView.getColumns(); col++) {
+                TileStatus status = farmView.getTileStatus(row, col);
+                switch(status) {
+                    case FULLY_GROWN -> actions.add(FarmAction.harvest(row, col));
+                    case WITHERED -> {
+                        if(objectCoins >= ToolType.SHOVEL.getCost()) {
+                            actions.add(FarmAction.useTool(ActionType.SHOVEL, row, col));
+                            objectCoins -= ToolType.SHOVEL.getCost();
+                        }
+                    }
+                    case GROWING -> {
+                        for(int count = farmView.getWateredCount(row, col); count < waterLimit; count++)
+                            actions.add(FarmAction.useTool(ActionType.WATER, row, col));
+                    }
+                    case UNPLOWED, PLOWED -> {
+                        if(objectCoins >= seedCost) {
+                            if(status == TileStatus.UNPLOWED)
+                                actions.add(FarmAction.useTool(ActionType.PLOW, row, col));
+                            actions.add(FarmAction.plant(PlantList.TURNIP, row, col));
+                            actions.add(FarmAction.useTool(ActionType.WATER, row, col));
+                            objectCoins -= seedCost;
+                        }
+                    }
+                    default -> { }
+                }
+            }
+        }
+
+        return actions;
+    }
+}
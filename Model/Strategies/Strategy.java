@@ -0,0 +1,23 @@
+package Model.Strategies;
+
+import Model.FarmAction;
+import Model.FarmView;
+
+import java.util.List;
+
+/**
+ * This interface represents an automated player of the game. Each day, a strategy
+ * looks at a read-only view of the farm and plans the actions to be done on that day,
+ * which the engine then applies in order before advancing to the next day.
+ */
+public interface Strategy {
+
+    /**
+     * Plans the actions to be done on the current day of the farm. The view does not
+     * change while the actions are planned, so later actions should not depend on
+     * the results of earlier ones on the same day.
+     * @param farmView the read-only view of the farm
+     * @return the actions to be done, in order.
+     */
+    List<FarmAction> planDay(FarmView farmView);
+}
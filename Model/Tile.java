@@ -10,37 +10,62 @@ import Model.Plants.*;
  *     the plow tool. Several tools primarily are used on a tile. As things are often
  *     done on tiles, it is responsible for updating its status.
  * </p>
+ * <p>
+ *     A tile does not store its statuses itself. It is a view of one position of the
+ *     board, which keeps the statuses of all its tiles in packed bitsets.
+ * </p>
  */
 public class Tile {
 
-    // attributes
-    private boolean isPlowed = false;
-    private boolean isOccupied = false;
-    private boolean hasRock = false;
-    private boolean hasCrop = false;
-    private boolean hasWitheredCrop = false;
-    private boolean hasFullyGrownCrop = false;
-    private Plant cropPlanted;
+    // position of the tile on the board that owns it
+    private Board board;
+    private int index;
+
+    /**
+     * Creates a tile object that does not belong to any farm lot.
+     */
+    public Tile() {
+        this(new Board(1, 1), 0);
+    }
+
+    /**
+     * Creates a view of the tile at the given index of the board.
+     * @param board  the board where the tile is located
+     * @param index  the index of the tile in the board (row * columns + column)
+     */
+    Tile(Board board, int index) {
+        this.board = board;
+        this.index = index;
+    }
+
+    /**
+     * Moves the view to the tile at the given index of the board, so that one view
+     * can be reused for many tiles.
+     * @param board  the board where the tile is located
+     * @param index  the index of the tile in the board (row * columns + column)
+     * @return this view, now of the given tile.
+     */
+    Tile moveTo(Board board, int index) {
+        this.board = board;
+        this.index = index;
+        return this;
+    }
 
     /**
-     * Creates a tile object.
+     * Gets the status of the tile, which is the one counted in the board stats. If
+     * more than one applies, the first of withered crop, fully-grown crop, growing
+     * crop, rock, and plowed is taken.
+     * @return the current status of the tile.
      */
-    public Tile() {}
+    public TileStatus getStatus() {
+        return this.board.getStatus(this.index);
+    }
 
     /**
      * Updates the status of the tile based on the status of the plant
      */
     public void updateTileStatus() {
-        // update plant status if the tile has a plant
-        this.getCropPlanted().updatePlantStatus();
-
-        if(this.getCropPlanted().getIsWithered()) {
-            // if plant is now withered
-            this.hasWitheredCrop = true;
-            this.hasFullyGrownCrop = false;
-        } else if(this.getCropPlanted().getIsReadyToHarvest())
-            // if plant is now fully-grown
-            this.hasFullyGrownCrop = true;
+        this.board.updateTileStatus(this.index);
     }
 
     /**
@@ -49,30 +74,31 @@ public class Tile {
      */
     public String getTileInfo() {
         String tileInfo;
-        if(this.hasCrop) { // if tile has a crop
+        Plant cropPlanted = this.getCropPlanted();
+        if(this.getHasCrop()) { // if tile has a crop
             tileInfo = "TILE INFORMATION\n" + "-".repeat(106) +
-                       "\nPlant name: " + this.getCropPlanted().getName().getSeedName() +
-                       "\nCrop type: " + this.getCropPlanted().getName().getCropType() +
+                       "\nPlant name: " + cropPlanted.getName().getSeedName() +
+                       "\nCrop type: " + cropPlanted.getName().getCropType().getTypeName() +
                        "\nDays left before harvest : " +
-                            (this.getCropPlanted().getGrowthDaysLeft()) +
-                       "\nTimes watered: " + this.getCropPlanted().getWateredCount() +
-                            " / " + this.getCropPlanted().getName().getWaterNeeds() +
+                            (cropPlanted.getGrowthDaysLeft()) +
+                       "\nTimes watered: " + cropPlanted.getWateredCount() +
+                            " / " + cropPlanted.getName().getWaterNeeds() +
                             " times needed" +
-                       "\nTimes fertilized: " + this.getCropPlanted().getFertilizedCount()
-                            + " / " + this.getCropPlanted().getName().getFertilizerNeeds() +
+                       "\nTimes fertilized: " + cropPlanted.getFertilizedCount()
+                            + " / " + cropPlanted.getName().getFertilizerNeeds() +
                             " times needed" +
                        "\nStatus: ";
 
             // display plant status
-            if(this.cropPlanted.getIsReadyToHarvest())
+            if(cropPlanted.getIsReadyToHarvest())
                 tileInfo = tileInfo.concat("Ready to Harvest");
-            else if(this.cropPlanted.getIsWithered())
+            else if(cropPlanted.getIsWithered())
                 tileInfo = tileInfo.concat("Withered");
             else
                 tileInfo = tileInfo.concat("Growing");
-        } else if(this.hasRock) { // if tile has a rock
+        } else if(this.getHasRock()) { // if tile has a rock
             tileInfo = "The tile has a rock. Use the pickaxe tool to remove it.";
-        } else if(this.isPlowed) { // if tile is plowed and does not have crops
+        } else if(this.getIsPlowed()) { // if tile is plowed and does not have crops
             tileInfo = "This tile is now waiting for its seed!";
         } else { // if the tile is unplowed
             tileInfo = "This tile has no use for now... Try using the plow tool on " +
@@ -87,16 +113,16 @@ public class Tile {
      * @return true if the tile is plowed, false if otherwise.
      */
     public boolean getIsPlowed() {
-        return isPlowed;
+        return this.board.getFlag(this.index, Board.PLOWED);
     }
 
     /**
-     * Sets the value of the private variable, isPlowed, depending on the value given.
+     * Sets the isPlowed flag of the tile, depending on the value given.
      * @param isPlowed  the boolean variable that implies whether the tile is now
      *                  plowed or not
      */
     public void setIsPlowed(boolean isPlowed) {
-        this.isPlowed = isPlowed;
+        this.board.setFlag(this.index, Board.PLOWED, isPlowed);
     }
 
     /**
@@ -105,16 +131,16 @@ public class Tile {
      * @return true if the tile is occupied, false if otherwise.
      */
     public boolean getIsOccupied() {
-        return isOccupied;
+        return this.board.getFlag(this.index, Board.OCCUPIED);
     }
 
     /**
-     * Sets the value of the private variable, isOccupied, depending on the value given.
+     * Sets the isOccupied flag of the tile, depending on the value given.
      * @param isOccupied  the boolean variable that implies whether the tile is now
      *                    occupied or not
      */
     public void setIsOccupied(boolean isOccupied) {
-        this.isOccupied = isOccupied;
+        this.board.setFlag(this.index, Board.OCCUPIED, isOccupied);
     }
 
     /**
@@ -122,16 +148,16 @@ public class Tile {
      * @return true if the tile has a rock, false if otherwise.
      */
     public boolean getHasRock() {
-        return hasRock;
+        return this.board.getFlag(this.index, Board.ROCK);
     }
 
     /**
-     * Sets the value of the private variable, hasRock, depending on the value given.
+     * Sets the hasRock flag of the tile, depending on the value given.
      * @param hasRock  the boolean variable that implies whether the tile now has a
      *                 rock or not
      */
     public void setHasRock(boolean hasRock) {
-        this.hasRock = hasRock;
+        this.board.setFlag(this.index, Board.ROCK, hasRock);
     }
 
     /**
@@ -140,16 +166,16 @@ public class Tile {
      * @return true if the tile has a crop, false if otherwise.
      */
     public boolean getHasCrop() {
-        return hasCrop;
+        return this.board.getFlag(this.index, Board.CROP);
     }
 
     /**
-     * Sets the value of the private variable, hasCrop, depending on the value given.
+     * Sets the hasCrop flag of the tile, depending on the value given.
      * @param hasCrop  the boolean variable that implies whether the tile now
      *                 has a crop or not
      */
     public void setHasCrop(boolean hasCrop) {
-        this.hasCrop = hasCrop;
+        this.board.setFlag(this.index, Board.CROP, hasCrop);
     }
 
     /**
@@ -157,17 +183,17 @@ public class Tile {
      * @return true if the tile has a withered crop, false if otherwise.
      */
     public boolean getHasWitheredCrop() {
-        return hasWitheredCrop;
+        return this.board.getFlag(this.index, Board.WITHERED_CROP);
     }
 
     /**
-     * Sets the value of the private variable, hasWitheredCrop, depending on
+     * Sets the hasWitheredCrop flag of the tile, depending on
      * the value given.
      * @param hasWitheredCrop  the boolean variable that implies whether the
      *                         tile now has a withered crop or not
      */
     public void setHasWitheredCrop(boolean hasWitheredCrop) {
-        this.hasWitheredCrop = hasWitheredCrop;
+        this.board.setFlag(this.index, Board.WITHERED_CROP, hasWitheredCrop);
     }
 
     /**
@@ -175,17 +201,17 @@ public class Tile {
      * @return true if the tile has a ready-to-harvest crop, false if otherwise.
      */
     public boolean getHasFullyGrownCrop() {
-        return hasFullyGrownCrop;
+        return this.board.getFlag(this.index, Board.FULLY_GROWN_CROP);
     }
 
     /**
-     * Sets the value of the private variable, hasFullyGrownCrop, depending
+     * Sets the hasFullyGrownCrop flag of the tile, depending
      * on the value given.
      * @param hasFullyGrownCrop  the boolean variable that implies if
      *                           the crop on the tile is now fully grown
      */
     public void setHasFullyGrownCrop(boolean hasFullyGrownCrop) {
-        this.hasFullyGrownCrop = hasFullyGrownCrop;
+        this.board.setFlag(this.index, Board.FULLY_GROWN_CROP, hasFullyGrownCrop);
     }
 
     /**
@@ -193,7 +219,7 @@ public class Tile {
      * @return the crop planted on the tile, if it has.
      */
     public Plant getCropPlanted() {
-        return cropPlanted;
+        return this.board.getCrop(this.index);
     }
 
     /**
@@ -201,6 +227,6 @@ public class Tile {
      * @param cropPlanted  the crop to be planted on the tile.
      */
     public void setCropPlanted(Plant cropPlanted) {
-        this.cropPlanted = cropPlanted;
+        this.board.setCrop(this.index, cropPlanted);
     }
 }
@@ -0,0 +1,20 @@
+package Model;
+
+/**
+ * This enum represents the different statuses that a tile on the board can have,
+ * namely having a withered crop, a fully-grown crop, a growing crop, or a rock, and
+ * being plowed or unplowed.
+ * <p>
+ *     A tile only has one status at a time. The statuses are listed by precedence,
+ *     so a tile with a withered crop is counted as such even if it is also occupied.
+ *     The board uses these statuses in keeping track of its stats.
+ * </p>
+ */
+public enum TileStatus {
+    WITHERED,
+    FULLY_GROWN,
+    GROWING,
+    ROCK,
+    PLOWED,
+    UNPLOWED
+}
@@ -36,7 +36,14 @@ public class Fertilizer extends Tool {
         return false;
     }
 
-
-
-
+    /**
+     * Fertilizes the plant on the tile.
+     * @param tile   the tile where the tool is used
+     * @param plant  the plant on the tile, if there's any
+     * @return true if the tool use is successful, false if otherwise.
+     */
+    @Override
+    public boolean use(Tile tile, Plant plant) {
+        return this.fertilizePlant(tile, plant);
+    }
 }
@@ -1,6 +1,7 @@
 package Model.Tools;
 
 import Model.*;
+import Model.Plants.Plant;
 
 /**
  * This class represents the blueprint for the tool, Pickaxe.
@@ -34,4 +35,15 @@ public class Pickaxe extends Tool {
         }
         return false;
     }
+
+    /**
+     * Removes the rock on the tile.
+     * @param tile   the tile where the tool is used
+     * @param plant  the plant on the tile, if there's any
+     * @return true if the tool use is successful, false if otherwise.
+     */
+    @Override
+    public boolean use(Tile tile, Plant plant) {
+        return this.destroyRock(tile);
+    }
 }
@@ -1,6 +1,7 @@
 package Model.Tools;
 
 import Model.Tile;
+import Model.Plants.Plant;
 
 /**
  * This class represents the blueprint for the tool, Plow.
@@ -36,4 +37,15 @@ public class Plow extends Tool {
         }
         return false;
     }
+
+    /**
+     * Plows the tile.
+     * @param tile   the tile where the tool is used
+     * @param plant  the plant on the tile, if there's any
+     * @return true if the tool use is successful, false if otherwise.
+     */
+    @Override
+    public boolean use(Tile tile, Plant plant) {
+        return this.plowTile(tile);
+    }
 }
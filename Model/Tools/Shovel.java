@@ -1,6 +1,7 @@
 package Model.Tools;
 
 import Model.*;
+import Model.Plants.Plant;
 
 /**
  * This class represents the blueprint for the tool, Shovel.
@@ -52,4 +53,15 @@ public class Shovel extends Tool {
 
         return false;
     }
+
+    /**
+     * Uses the shovel on the tile.
+     * @param tile   the tile where the tool is used
+     * @param plant  the plant on the tile, if there's any
+     * @return true if the tool use is successful, false if otherwise.
+     */
+    @Override
+    public boolean use(Tile tile, Plant plant) {
+        return this.removeWitheredCrop(tile);
+    }
 }
@@ -1,5 +1,8 @@
 package Model.Tools;
 
+import Model.Plants.Plant;
+import Model.Tile;
+
 /**
  * This abstract class represents the blueprint for each tool. Depending on the
  * type of tool, its constant attributes vary including its name, use, cost, and
@@ -32,6 +35,15 @@ public abstract class Tool {
         this.expGain = expGain;
     }
 
+    /**
+     * Uses the tool on the given tile. Tools keep no state of their own, so a single
+     * instance of each tool can be shared by every use.
+     * @param tile   the tile where the tool is used
+     * @param plant  the plant on the tile, if there's any
+     * @return true if the tool use is successful, false if otherwise.
+     */
+    public abstract boolean use(Tile tile, Plant plant);
+
     /**
      * Gets all the information about the tool.
      * @return the string that contains tool information.
@@ -76,4 +76,31 @@ public enum ToolType {
     public double getExpGain() {
         return expGain;
     }
+
+    /**
+     * Gets the shared instance of the tool of this type. Tools keep no state of their
+     * own, so the same instance is used every time the tool is used.
+     * @return the tool of the tool type.
+     */
+    public Tool getTool() {
+        return switch(this) {
+            case WATERINGCAN -> Tools.WATERING_CAN;
+            case PLOW -> Tools.PLOW;
+            case PICKAXE -> Tools.PICKAXE;
+            case FERTILIZER -> Tools.FERTILIZER;
+            case SHOVEL -> Tools.SHOVEL;
+        };
+    }
+
+    /**
+     * This class holds the shared tool instances. The tools are only created once
+     * the tool types are, since each tool reads its attributes from its type.
+     */
+    private static final class Tools {
+        private static final Tool WATERING_CAN = new WateringCan();
+        private static final Tool PLOW = new Plow();
+        private static final Tool PICKAXE = new Pickaxe();
+        private static final Tool FERTILIZER = new Fertilizer();
+        private static final Tool SHOVEL = new Shovel();
+    }
 }
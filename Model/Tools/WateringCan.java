@@ -35,4 +35,15 @@ public class WateringCan extends Tool {
         }
         return false;
     }
+
+    /**
+     * Waters the plant on the tile.
+     * @param tile   the tile where the tool is used
+     * @param plant  the plant on the tile, if there's any
+     * @return true if the tool use is successful, false if otherwise.
+     */
+    @Override
+    public boolean use(Tile tile, Plant plant) {
+        return this.waterPlant(tile, plant);
+    }
 }
@@ -1,16 +1,17 @@
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.LineBorder;
 import java.awt.*;
 import java.awt.event.ActionListener;
-import java.awt.image.BufferedImage;
-import java.io.File;
+import java.awt.event.AdjustmentListener;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Objects;
 
 import Model.*;
 import Model.Plants.*;
+import View.SpriteCache;
+import View.TileView;
 
 /**
  * This class represents the View in the MVC Architecture. It handles everything in
@@ -19,22 +20,57 @@ import Model.Plants.*;
  */
 public class MyFarmGUI extends JFrame {
 
+    private static final long serialVersionUID = 1L;
+
+    // sprites shared by all tiles (and by every new game)
+    private static final SpriteCache SPRITES = new SpriteCache();
+
     // variables that needs to be global
     private JTextArea infoText, statsText;
     private ArrayList<JButton> gameButtons;
-    private final ArrayList<JPanel> tiles;
+    private final ArrayList<TileView> tiles;
     private final ArrayList<JButton> viewButtons;
+    private final int rows;
+    private final int columns;
+
+    // the farm lot only has tile views for the tiles that fit the window, and is
+    // scrolled over the board by the scroll bars if the board does not fit
+    private static final int VISIBLE_ROWS = 5;
+    private static final int VISIBLE_COLUMNS = 10;
+    private final int visibleRows;
+    private final int visibleColumns;
+    private final JScrollBar rowScrollBar;
+    private final JScrollBar columnScrollBar;
+
+    // beyond this number of rows or columns, a row or column is typed instead of chosen
+    private static final int MAX_CHOICES = 20;
 
     /**
-     * Creates a GUI object for the MyFarm game.
+     * Creates a GUI object for the MyFarm game with the default 10x5 farm lot.
      */
     public MyFarmGUI() {
+        this(MyFarm.DEFAULT_ROWS, MyFarm.DEFAULT_COLUMNS);
+    }
+
+    /**
+     * Creates a GUI object for the MyFarm game with a farm lot of the given size.
+     * @param rows     the number of rows of the farm lot
+     * @param columns  the number of columns of the farm lot
+     */
+    public MyFarmGUI(int rows, int columns) {
         // create the window
         super("My Farm");
 
         // initialize game elements
-        tiles = new ArrayList<>();
-        viewButtons = new ArrayList<>();
+        this.rows = rows;
+        this.columns = columns;
+        this.visibleRows = Math.min(rows, VISIBLE_ROWS);
+        this.visibleColumns = Math.min(columns, VISIBLE_COLUMNS);
+        this.rowScrollBar = new JScrollBar(JScrollBar.VERTICAL, 0, this.visibleRows, 0, rows);
+        this.columnScrollBar = new JScrollBar(JScrollBar.HORIZONTAL, 0, this.visibleColumns,
+                                              0, columns);
+        tiles = new ArrayList<>(this.visibleRows * this.visibleColumns);
+        viewButtons = new ArrayList<>(this.visibleRows * this.visibleColumns);
 
         // design the frame
         this.setLayout(new BorderLayout());
@@ -115,13 +151,24 @@ public class MyFarmGUI extends JFrame {
      */
     private void initWestOfCenterPanel(JPanel panel) {
         /* -------- CENTER PANEL -------- */
-        // contains the farm lot
+        // contains the farm lot, which is scrolled if it does not fit the window
         JPanel centerPanel = new JPanel();
         centerPanel.setBorder(new EmptyBorder(20, 20, 20, 20));
-        centerPanel.setLayout(new GridLayout(5, 10, 5, 5));
+        centerPanel.setLayout(new GridLayout(this.visibleRows, this.visibleColumns, 5, 5));
         centerPanel.setBackground(Color.decode("#371d10"));
         this.initFarmLot(centerPanel);
-        panel.add(centerPanel, BorderLayout.CENTER);
+        JPanel farmLotPanel = new JPanel();
+        farmLotPanel.setLayout(new BorderLayout());
+        farmLotPanel.add(centerPanel, BorderLayout.CENTER);
+        if(this.rows > this.visibleRows) {
+            this.rowScrollBar.setBlockIncrement(this.visibleRows);
+            farmLotPanel.add(this.rowScrollBar, BorderLayout.EAST);
+        }
+        if(this.columns > this.visibleColumns) {
+            this.columnScrollBar.setBlockIncrement(this.visibleColumns);
+            farmLotPanel.add(this.columnScrollBar, BorderLayout.SOUTH);
+        }
+        panel.add(farmLotPanel, BorderLayout.CENTER);
 
         /* -------- SOUTH PANEL -------- */
         // contains the information box and the farmer/game stats
@@ -211,28 +258,17 @@ public class MyFarmGUI extends JFrame {
     }
 
     /**
-     * Creates and designs the tiles of the farm lot at the center panel.
+     * Creates and designs the tiles of the farm lot at the center panel. Only the
+     * tiles that fit the window have a tile view.
      * @param panel the panel where the farm lot will be located
      */
     private void initFarmLot(JPanel panel) {
-        for(int index = 0; index < 50; index++) {
-            // tile panels
-            JPanel tile = new JPanel();
-            tile.setLayout(new BorderLayout());
-            tile.setBackground(Color.decode("#845b45"));
-
-            // view information buttons (...)
-            JPanel buttonPanel = new JPanel();
-            buttonPanel.setBackground(Color.decode("#845b45"));
-            JButton btnView = new JButton("...");
-            btnView.setFocusable(false);
-            btnView.setPreferredSize(new Dimension(15, 15));
-            btnView.setForeground(Color.WHITE);
-            btnView.setBackground(Color.decode("#371d10"));
-            btnView.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 9));
-            buttonPanel.add(btnView);
-            tile.add(buttonPanel, BorderLayout.EAST);
-            this.viewButtons.add(btnView);
+        for(int index = 0; index < this.visibleRows * this.visibleColumns; index++) {
+            // tile views with their view information buttons (...), which know their
+            // place in the farm lot rather than in the board
+            TileView tile = new TileView(SPRITES);
+            tile.getViewButton().putClientProperty("index", index);
+            this.viewButtons.add(tile.getViewButton());
 
             // add tile image
             String filePath = "sprites\\unplowed.png";
@@ -241,7 +277,7 @@ public class MyFarmGUI extends JFrame {
         }
 
         // add each tile to the panel
-        for (JPanel tile : tiles)
+        for (TileView tile : tiles)
             panel.add(tile);
     }
 
@@ -314,64 +350,74 @@ public class MyFarmGUI extends JFrame {
             btnView.addActionListener(actionListener);
     }
 
+    /**
+     * Sets the adjustment listener for the scroll bars of the farm lot.
+     * @param adjustmentListener the controller of the program
+     */
+    public void setAdjustmentListener(AdjustmentListener adjustmentListener) {
+        this.rowScrollBar.addAdjustmentListener(adjustmentListener);
+        this.columnScrollBar.addAdjustmentListener(adjustmentListener);
+    }
+
+    /**
+     * Gets the first row of the board that is shown in the farm lot.
+     * @return the first visible row.
+     */
+    public int getFirstVisibleRow() {
+        return this.rowScrollBar.getValue();
+    }
+
+    /**
+     * Gets the first column of the board that is shown in the farm lot.
+     * @return the first visible column.
+     */
+    public int getFirstVisibleColumn() {
+        return this.columnScrollBar.getValue();
+    }
+
+    /**
+     * Gets the number of rows of the board that are shown in the farm lot.
+     * @return the number of visible rows.
+     */
+    public int getVisibleRows() {
+        return this.visibleRows;
+    }
+
+    /**
+     * Gets the number of columns of the board that are shown in the farm lot.
+     * @return the number of visible columns.
+     */
+    public int getVisibleColumns() {
+        return this.visibleColumns;
+    }
+
     /**
      * Sets and updates the graphical interface of the tile according to its status
      * (i.e., if it contains a rock, a crop, a withered crop, or if it is plowed).
+     * Tiles that are not shown in the farm lot are skipped.
      * @param tile     the tile being modified
      * @param index    the index of the tile in the board
-     * @param plants   the list of plants available in My Farm
-     */
-    public void setTile(Tile tile, int index, ArrayList<Plant> plants) {
-        String filePath;
-
-        if(tile.getHasWitheredCrop()) // tile has withered crop
-            filePath = "sprites\\withered.png";
-        else if(tile.getHasFullyGrownCrop()) // tile has fully-grown crop
-            if (tile.getCropPlanted().getName().equals(plants.get(0).getName()))
-                filePath = "sprites\\turnip.png";
-            else if (tile.getCropPlanted().getName().equals(plants.get(1).getName()))
-                filePath = "sprites\\carrot.png";
-            else if (tile.getCropPlanted().getName().equals(plants.get(2).getName()))
-                filePath = "sprites\\potato.png";
-            else if (tile.getCropPlanted().getName().equals(plants.get(3).getName()))
-                filePath = "sprites\\rose.png";
-            else if (tile.getCropPlanted().getName().equals(plants.get(4).getName()))
-                filePath = "sprites\\turnips.png";
-            else if (tile.getCropPlanted().getName().equals(plants.get(5).getName()))
-                filePath = "sprites\\sunflower.png";
-            else if (tile.getCropPlanted().getName().equals(plants.get(6).getName()))
-                filePath = "sprites\\mango.png";
-            else
-                filePath = "sprites\\apple.png";
-        else if(tile.getHasRock()) // tile has rock
-            filePath = "sprites\\rock.png";
-        else if(tile.getHasCrop()) // tile has growing crop
-            filePath = "sprites\\growing.png";
-        else if(tile.getIsPlowed()) // tile is plowed
-            filePath = "sprites\\plowed.png";
-        else // tile is unplowed
-            filePath = "sprites\\unplowed.png";
-
-        // add image from specified filepath to the tile panel
-        this.addImageToTile(filePath, this.tiles.get(index));
-    }
-
-    /**
-     * Adds image to a file by scanning the file given the file path.
+     */
+    public void setTile(Tile tile, int index) {
+        int row = index / this.columns - this.getFirstVisibleRow();
+        int col = index % this.columns - this.getFirstVisibleColumn();
+        if(row < 0 || row >= this.visibleRows || col < 0 || col >= this.visibleColumns)
+            return;
+
+        // swap the sprite of the tile view to the one matching the tile status
+        this.addImageToTile(TileView.getSpritePath(tile),
+                            this.tiles.get(row * this.visibleColumns + col));
+    }
+
+    /**
+     * Sets the image of a tile by swapping the icon of its label to the cached sprite
+     * of the given file path. No new component is added to the tile.
      * @param filePath  the location of the image/sprite
-     * @param panel     the panel where the image will be added
+     * @param tile      the tile view where the image will be displayed
      */
-    public void addImageToTile(String filePath, JPanel panel) {
+    public void addImageToTile(String filePath, TileView tile) {
         try {
-            // read the file image given the file path
-            BufferedImage tileImage = ImageIO.read(new File(filePath));
-            JPanel centerPanel = new JPanel();
-            centerPanel.setBorder(new EmptyBorder(15, 25, 0, 0));
-            centerPanel.setLayout(new FlowLayout());
-            centerPanel.setBackground(Color.decode("#845b45"));
-            JLabel newPicLabel = new JLabel(new ImageIcon(tileImage));
-            centerPanel.add(newPicLabel);
-            panel.add(centerPanel, BorderLayout.CENTER);
+            tile.setSprite(filePath);
         } catch (Exception e) {
             JOptionPane.showMessageDialog(null,
                                             "Image file cannot be read.",
@@ -630,13 +676,36 @@ public class MyFarmGUI extends JFrame {
     }
 
     /**
-     * Gets the image given the file path.
+     * Displays a message if the saved game cannot be loaded.
+     */
+    public void displayCannotLoadGame() {
+        JOptionPane.showMessageDialog(null,
+                                      "The saved game cannot be loaded. A new game " +
+                                              "will be started.",
+                                      "Game Cannot be Loaded",
+                                      JOptionPane.ERROR_MESSAGE);
+    }
+
+    /**
+     * Displays a message if the game cannot be saved.
      */
-    public BufferedImage getImage(String filePath) {
+    public void displayCannotSaveGame() {
+        JOptionPane.showMessageDialog(null,
+                                      "The game cannot be saved. The game will go on " +
+                                              "without saving.",
+                                      "Game Cannot be Saved",
+                                      JOptionPane.ERROR_MESSAGE);
+    }
+
+    /**
+     * Gets the image given the file path. The image is read through the sprite cache,
+     * so each file is only read once.
+     */
+    public Image getImage(String filePath) {
         try {
             // read the file image given the file path
-            return ImageIO.read(new File(filePath));
-        } catch (Exception e) {
+            return SPRITES.getSprite(filePath).getImage();
+        } catch (IOException e) {
             JOptionPane.showMessageDialog(null,
                     "Image file cannot be read.",
                     "Error Reading Image File ",
@@ -724,19 +793,7 @@ public class MyFarmGUI extends JFrame {
      * @return the row number if the user selects properly; otherwise, return -1
      */
     public int getRow() {
-        // set choices
-        Object[] choices = {"Row 1", "Row 2", "Row 3", "Row 4", "Row 5"};
-
-        // get row choice
-        String value = (String)JOptionPane.showInputDialog(null,
-                        "Choose row of the tile: ", "Tile Choice",
-                        JOptionPane.QUESTION_MESSAGE, null, choices, null);
-
-        // return the choice number if the user selects properly; otherwise, return -1
-        if(value != null)
-            return Integer.parseInt(value.substring(4)) - 1;
-        else
-            return -1;
+        return this.getTileNumber("Row", "row", this.rows);
     }
 
     /**
@@ -744,20 +801,52 @@ public class MyFarmGUI extends JFrame {
      * @return the column number if the user selects properly; otherwise, return -1
      */
     public int getColumn() {
-        // set choices
-        Object[] choices = {"Column 1", "Column 2", "Column 3", "Column 4", "Column 5",
-                            "Column 6", "Column 7", "Column 8", "Column 9", "Column 10"};
-
-        // get column choice
-        String value = (String)JOptionPane.showInputDialog(null,
-                        "Choose column of the tile: ", "Tile Choice",
-                        JOptionPane.QUESTION_MESSAGE, null, choices, null);
-
-        // return column number if user selects properly; otherwise, return -1
-        if(value != null)
-            return Integer.parseInt(value.substring(7)) - 1;
-        else
+        return this.getTileNumber("Column", "column", this.columns);
+    }
+
+    /**
+     * Gets the row or column number of a tile from the user. The number is chosen from
+     * a list if there are few enough of them; otherwise, it is typed.
+     * @param label  the label of each choice (i.e., "Row" or "Column")
+     * @param name   the name of the number in the message (i.e., "row" or "column")
+     * @param count  the number of rows or columns of the farm lot
+     * @return the number, starting from 0, if the user selects or types it properly;
+     *         otherwise, return -1
+     */
+    private int getTileNumber(String label, String name, int count) {
+        String value;
+        if(count <= MAX_CHOICES) {
+            // set choices
+            Object[] choices = new Object[count];
+            for(int number = 0; number < count; number++)
+                choices[number] = label + " " + (number + 1);
+
+            // get choice
+            value = (String)JOptionPane.showInputDialog(null,
+                            "Choose " + name + " of the tile: ", "Tile Choice",
+                            JOptionPane.QUESTION_MESSAGE, null, choices, null);
+            if(value != null)
+                value = value.substring(label.length() + 1);
+        } else {
+            value = JOptionPane.showInputDialog(null,
+                            "Enter " + name + " of the tile (1 to " + count + "): ",
+                            "Tile Choice", JOptionPane.QUESTION_MESSAGE);
+        }
+
+        // return the number if the user selects properly; otherwise, return -1
+        if(value == null)
             return -1;
+        try {
+            int number = Integer.parseInt(value.trim());
+            if(number >= 1 && number <= count)
+                return number - 1;
+        } catch(NumberFormatException e) {
+            // reported below
+        }
+        JOptionPane.showMessageDialog(null,
+                "There is no " + name + " " + value.trim() + " in the farm lot.",
+                "Tile Choice", JOptionPane.ERROR_MESSAGE);
+        return -1;
     }
 
     /**
@@ -776,6 +865,14 @@ public class MyFarmGUI extends JFrame {
                 JOptionPane.QUESTION_MESSAGE, null, choices, null);
     }
 
+    /**
+     * Gets the sprite cache shared by the tiles of the game.
+     * @return the sprite cache.
+     */
+    public SpriteCache getSpriteCache() {
+        return SPRITES;
+    }
+
     /**
      * Gets all the view buttons of the game.
      *
@@ -785,6 +882,21 @@ public class MyFarmGUI extends JFrame {
         return viewButtons;
     }
 
+    /**
+     * Gets the index of the tile (row * columns + column) that the given view
+     * button belongs to.
+     * @param viewButton the view button that was clicked
+     * @return the index of the tile of the view button, or -1 if it is not a
+     *         view button of the farm lot.
+     */
+    public int getViewButtonIndex(Object viewButton) {
+        if(viewButton instanceof JButton button &&
+           button.getClientProperty("index") instanceof Integer index)
+            return (this.getFirstVisibleRow() + index / this.visibleColumns) * this.columns +
+                   this.getFirstVisibleColumn() + index % this.visibleColumns;
+        return -1;
+    }
+
     public int getConfirmation() {
         return JOptionPane.showOptionDialog(null,
                 "Information about the selected option is displayed on the" +
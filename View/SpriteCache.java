@@ -0,0 +1,92 @@
+package View;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+
+/**
+ * This class represents the cache of sprites used by the graphical interface of the
+ * game. Each sprite is read from its file only once and is then shared by every tile
+ * or button that displays it.
+ * <p>
+ *     The cache keeps track of the number of hits and misses so that it can be
+ *     confirmed that redrawing the farm lot no longer reads any file from the disk.
+ * </p>
+ */
+public class SpriteCache {
+
+    // attributes
+    private final HashMap<String, ImageIcon> sprites;
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    /**
+     * Creates an empty sprite cache.
+     */
+    public SpriteCache() {
+        this.sprites = new HashMap<>();
+    }
+
+    /**
+     * Gets the sprite given its file path. The image file is only read the first time
+     * the sprite is requested; succeeding requests return the same shared icon.
+     * @param filePath  the location of the image/sprite
+     * @return the icon containing the sprite.
+     * @throws IOException if the image file cannot be read
+     */
+    public ImageIcon getSprite(String filePath) throws IOException {
+        ImageIcon sprite = this.sprites.get(filePath);
+        if(sprite != null) {
+            this.hitCount++;
+            return sprite;
+        }
+
+        // read the file image given the file path (separators are normalized so
+        // the windows-style paths used by the game also work on other systems)
+        this.missCount++;
+        BufferedImage image = ImageIO.read(new File(filePath.replace('\\', '/')));
+        if(image == null)
+            throw new IOException("Unsupported image file: " + filePath);
+
+        sprite = new ImageIcon(image);
+        this.sprites.put(filePath, sprite);
+        return sprite;
+    }
+
+    /**
+     * Removes all the sprites stored in the cache and resets its counters.
+     */
+    public void clear() {
+        this.sprites.clear();
+        this.hitCount = 0;
+        this.missCount = 0;
+    }
+
+    // getters
+    /**
+     * Gets the number of sprite requests that were served from the cache.
+     * @return the number of cache hits.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the number of sprite requests that required reading the image file.
+     * @return the number of cache misses.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Gets the number of distinct sprites currently stored in the cache.
+     * @return the number of cached sprites.
+     */
+    public int getSize() {
+        return sprites.size();
+    }
+}
@@ -0,0 +1,118 @@
+package View;
+
+import Model.Tile;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.io.IOException;
+
+/**
+ * This class represents the graphical view of a single tile of the farm lot. It is
+ * made of a view information button and a label that displays the sprite of the tile.
+ * <p>
+ *     The components of the tile are only created once. Updating the tile swaps the
+ *     icon of its label in place, so the number of components of the farm lot stays
+ *     the same no matter how many actions are done in the game.
+ * </p>
+ */
+public class TileView extends JPanel {
+
+    private static final long serialVersionUID = 1L;
+
+    // attributes
+    private final SpriteCache sprites;
+    private final JButton viewButton;
+    private final JLabel spriteLabel;
+
+    /**
+     * Creates the view of a tile that gets its sprites from the given sprite cache.
+     * @param sprites the sprite cache shared by the tiles of the farm lot
+     */
+    public TileView(SpriteCache sprites) {
+        this.sprites = sprites;
+        this.setLayout(new BorderLayout());
+        this.setBackground(Color.decode("#845b45"));
+
+        // view information buttons (...)
+        JPanel buttonPanel = new JPanel();
+        buttonPanel.setBackground(Color.decode("#845b45"));
+        this.viewButton = new JButton("...");
+        this.viewButton.setFocusable(false);
+        this.viewButton.setPreferredSize(new Dimension(15, 15));
+        this.viewButton.setForeground(Color.WHITE);
+        this.viewButton.setBackground(Color.decode("#371d10"));
+        this.viewButton.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 9));
+        buttonPanel.add(this.viewButton);
+        this.add(buttonPanel, BorderLayout.EAST);
+
+        // label where the sprite of the tile is displayed
+        JPanel centerPanel = new JPanel();
+        centerPanel.setBorder(new EmptyBorder(15, 25, 0, 0));
+        centerPanel.setLayout(new FlowLayout());
+        centerPanel.setBackground(Color.decode("#845b45"));
+        this.spriteLabel = new JLabel();
+        centerPanel.add(this.spriteLabel);
+        this.add(centerPanel, BorderLayout.CENTER);
+    }
+
+    /**
+     * Updates the sprite of the tile view according to the status of the tile
+     * (i.e., if it contains a rock, a crop, a withered crop, or if it is plowed).
+     * @param tile the tile being displayed
+     * @throws IOException if the sprite of the tile cannot be read
+     */
+    public void render(Tile tile) throws IOException {
+        this.setSprite(getSpritePath(tile));
+    }
+
+    /**
+     * Sets the sprite displayed on the tile. The icon of the label is only replaced
+     * if it is different from the one currently displayed.
+     * @param filePath the location of the image/sprite
+     * @throws IOException if the sprite cannot be read
+     */
+    public void setSprite(String filePath) throws IOException {
+        ImageIcon sprite = this.sprites.getSprite(filePath);
+        if(this.spriteLabel.getIcon() != sprite)
+            this.spriteLabel.setIcon(sprite);
+    }
+
+    /**
+     * Gets the location of the sprite that represents the status of the tile. A fully
+     * grown crop is shown with the sprite of its kind of plant.
+     * @param tile the tile being displayed
+     * @return the file path of the sprite of the tile.
+     */
+    public static String getSpritePath(Tile tile) {
+        if(tile.getHasWitheredCrop()) // tile has withered crop
+            return "sprites\\withered.png";
+        else if(tile.getHasFullyGrownCrop()) // tile has fully-grown crop
+            return tile.getCropPlanted().getName().getSpritePath();
+        else if(tile.getHasRock()) // tile has rock
+            return "sprites\\rock.png";
+        else if(tile.getHasCrop()) // tile has growing crop
+            return "sprites\\growing.png";
+        else if(tile.getIsPlowed()) // tile is plowed
+            return "sprites\\plowed.png";
+        else // tile is unplowed
+            return "sprites\\unplowed.png";
+    }
+
+    // getters
+    /**
+     * Gets the view information button of the tile.
+     * @return the view button of the tile.
+     */
+    public JButton getViewButton() {
+        return viewButton;
+    }
+
+    /**
+     * Gets the label where the sprite of the tile is displayed.
+     * @return the sprite label of the tile.
+     */
+    public JLabel getSpriteLabel() {
+        return spriteLabel;
+    }
+}
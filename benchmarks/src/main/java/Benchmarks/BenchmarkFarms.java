@@ -0,0 +1,104 @@
+package Benchmarks;
+
+import Model.Board;
+import Model.FarmEngine;
+import Model.FarmRandom;
+import Model.MyFarm;
+import Model.Plants.PlantList;
+
+import java.util.ArrayList;
+
+/**
+ * This class creates the farms used by the benchmarks. A farm lot is filled with a
+ * mix of rocks, plowed tiles, and crops planted on different days, so the tiles
+ * have every status (including fully grown and withered crops). Farms created with
+ * the same size and seed are always the same.
+ */
+final class BenchmarkFarms {
+
+    // seed of the farms, so every run measures the same boards
+    static final long SEED = 42L;
+
+    // Objectcoins given to the farmer, enough to never run out
+    private static final double OBJECT_COINS = 1e15;
+
+    private BenchmarkFarms() {
+    }
+
+    /**
+     * Gets the number of rows of a board size.
+     * @param size the board size, written as rows x columns (e.g., 5x10)
+     * @return the number of rows.
+     */
+    static int getRows(String size) {
+        return Integer.parseInt(size.substring(0, size.indexOf('x')));
+    }
+
+    /**
+     * Gets the number of columns of a board size.
+     * @param size the board size, written as rows x columns (e.g., 5x10)
+     * @return the number of columns.
+     */
+    static int getColumns(String size) {
+        return Integer.parseInt(size.substring(size.indexOf('x') + 1));
+    }
+
+    /**
+     * Creates an empty farm of the given size, whose farmer never runs out of
+     * Objectcoins.
+     * @param size  the board size, written as rows x columns (e.g., 5x10)
+     * @param seed  the seed of the farm's random source
+     * @return the engine of the new farm.
+     */
+    static FarmEngine createEmpty(String size, long seed) {
+        MyFarm farm = new MyFarm(getRows(size), getColumns(size), new FarmRandom(seed));
+        farm.getFarmer().setObjectCoins(OBJECT_COINS);
+        return new FarmEngine(farm);
+    }
+
+    /**
+     * Creates a farm of the given size that has rocks, plowed tiles, and crops in
+     * every stage of growth.
+     * @param size  the board size, written as rows x columns (e.g., 5x10)
+     * @param seed  the seed of the farm's random source and of its layout
+     * @return the engine of the new farm.
+     */
+    static FarmEngine createPopulated(String size, long seed) {
+        FarmEngine engine = createEmpty(size, seed);
+        Board board = engine.getMyFarm().getBoard();
+        int rows = board.getRows();
+        int columns = board.getColumns();
+        FarmRandom layout = new FarmRandom(seed);
+
+        // about one tile in ten has a rock
+        ArrayList<String> rockPositions = new ArrayList<>();
+        for(int row = 0; row < rows; row++)
+            for(int col = 0; col < columns; col++)
+                if(layout.nextInt(0, 10) == 0)
+                    rockPositions.add((row + 1) + " " + (col + 1));
+        board.setInitialRocks(rockPositions);
+        board.updateBoardStats(rows, columns);
+
+        // plant crops over a few days, so they are in different stages of growth
+        PlantList[] crops = {PlantList.TURNIP, PlantList.CARROT, PlantList.ROSE,
+                             PlantList.SUNFLOWER, PlantList.MANGO};
+        for(int day = 0; day < 4; day++) {
+            for(int row = 0; row < rows; row++) {
+                for(int col = 0; col < columns; col++) {
+                    if(layout.nextInt(0, 4) != 0)
+                        continue;
+
+                    engine.plow(row, col);
+                    if(layout.nextInt(0, 3) != 0 &&
+                       engine.plant(crops[layout.nextInt(0, crops.length)], row, col) == 3) {
+                        for(int water = layout.nextInt(0, 3); water > 0; water--)
+                            engine.water(row, col);
+                    }
+                }
+            }
+            engine.advanceDay();
+        }
+
+        return engine;
+    }
+}
@@ -0,0 +1,38 @@
+package Benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * This class runs the benchmarks. It takes the same options as the JMH runner, but
+ * the results are written as JSON (to jmh-result.json) unless another result format
+ * is given, so runs can be compared over time.
+ */
+public class BenchmarkRunner {
+
+    /**
+     * Runs the benchmarks selected by the given JMH options.
+     * @param args the JMH command line options
+     * @throws Exception if the options are invalid or the benchmarks cannot be run
+     */
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if(commandLineOptions.shouldHelp()) {
+            commandLineOptions.showHelp();
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+        if(!commandLineOptions.getResultFormat().hasValue())
+            options.resultFormat(ResultFormatType.JSON);
+
+        Runner runner = new Runner(options.build());
+        if(commandLineOptions.shouldList())
+            runner.list();
+        else
+            runner.run();
+    }
+}
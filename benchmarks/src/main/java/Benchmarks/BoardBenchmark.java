@@ -0,0 +1,66 @@
+package Benchmarks;
+
+import Model.Board;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the board: recounting the board stats, and checking the tiles where
+ * a fruit tree can be planted, both for a single tile and for the whole farm lot.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+
+    @Param({"5x10", "50x100", "500x1000"})
+    public String size;
+
+    private Board board;
+    private int rows;
+    private int columns;
+    private int nextTile;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.board = BenchmarkFarms.createPopulated(this.size, BenchmarkFarms.SEED)
+                                   .getMyFarm().getBoard();
+        this.rows = this.board.getRows();
+        this.columns = this.board.getColumns();
+        this.nextTile = 0;
+    }
+
+    @Benchmark
+    public int updateBoardStats() {
+        this.board.updateBoardStats(this.rows, this.columns);
+        return this.board.getGrowingCropCount();
+    }
+
+    @Benchmark
+    public boolean verifyBoardStats() {
+        return this.board.verifyBoardStats();
+    }
+
+    @Benchmark
+    public boolean canPlantFruit() {
+        // check a different tile each time, going through the farm lot in order
+        int index = this.nextTile;
+        this.nextTile = index + 1 == this.rows * this.columns ? 0 : index + 1;
+        return this.board.canPlantFruit(index / this.columns, index % this.columns,
+                                        this.rows, this.columns);
+    }
+
+    @Benchmark
+    public int canPlantFruitWholeBoard() {
+        int eligibleTiles = 0;
+        for(int row = 0; row < this.rows; row++)
+            for(int col = 0; col < this.columns; col++)
+                if(this.board.canPlantFruit(row, col, this.rows, this.columns))
+                    eligibleTiles++;
+        return eligibleTiles;
+    }
+}
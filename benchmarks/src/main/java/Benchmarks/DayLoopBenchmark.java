@@ -0,0 +1,87 @@
+package Benchmarks;
+
+import Model.FarmEngine;
+import Model.Strategies.GreedyTurnipStrategy;
+import Model.Strategies.Strategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the next-day loop. A season of days is advanced on a new farm, once
+ * a day at a time (as the Next Day button does) and once in a single fast-forward
+ * step. A season is measured from the same starting farm each time, since the crops
+ * of a farm that is left alone are all withered after a few days and a day step
+ * would then have nothing left to do.
+ * <p>
+ *     The greedy day benchmark measures a day of a game that keeps going: the
+ *     greedy turnip strategy plans and applies its actions and the day is advanced,
+ *     which shows how a day step scales with the size of the farm lot.
+ * </p>
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class DayLoopBenchmark {
+
+    // number of days advanced by a season
+    private static final int SEASON_DAYS = 15;
+
+    @State(Scope.Thread)
+    public static class SeasonState {
+
+        @Param({"5x10", "50x100", "500x1000"})
+        public String size;
+
+        FarmEngine engine;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            this.engine = BenchmarkFarms.createPopulated(this.size, BenchmarkFarms.SEED);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class GameState {
+
+        @Param({"5x10", "50x100", "500x1000"})
+        public String size;
+
+        FarmEngine engine;
+        Strategy strategy;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            this.engine = BenchmarkFarms.createPopulated(this.size, BenchmarkFarms.SEED);
+            this.strategy = new GreedyTurnipStrategy();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 30)
+    public int nextDay(SeasonState state) {
+        for(int day = 0; day < SEASON_DAYS; day++)
+            state.engine.advanceDay();
+        return state.engine.getMyFarm().getBoard().getWitheredCropCount();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 30)
+    public int advanceDays(SeasonState state) {
+        state.engine.advanceDays(SEASON_DAYS);
+        return state.engine.getMyFarm().getBoard().getWitheredCropCount();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public int greedyDay(GameState state) {
+        state.engine.applyAll(state.strategy.planDay(state.engine.getFarmView()));
+        state.engine.advanceDay();
+        return state.engine.getMyFarm().getBoard().getGrowingCropCount();
+    }
+}
@@ -0,0 +1,185 @@
+package Benchmarks;
+
+import Model.Board;
+import Model.FarmEngine;
+import Model.Farmer;
+import Model.Tile;
+import Model.Plants.PlantList;
+import Model.Tools.Tool;
+import Model.Tools.ToolType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the farmer's actions: harvesting every fully grown crop of the farm
+ * lot, and using a tool on the tiles of the farm lot one at a time, both directly
+ * through the farmer and through the engine (which also charges the tool and adds
+ * its experience).
+ * <p>
+ *     Every tool use succeeds. Each tile of the farm lot is set up for the tool being
+ *     measured (empty tiles for the plow, growing crops for the watering can and the
+ *     fertilizer, and rocks for the pickaxe and the shovel), and a tile changed by the
+ *     tool is put back right after it is used, with one or two flag writes that are
+ *     measured along with the tool.
+ * </p>
+ * <p>
+ *     Using a tool should not allocate anything. Running these benchmarks with
+ *     {@code -prof gc} shows it: gc.alloc.rate.norm of useTool and engineUseTool
+ *     should stay at about 0 B/op.
+ * </p>
+ */
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FarmerBenchmark {
+
+    @State(Scope.Thread)
+    public static class HarvestState {
+
+        @Param({"5x10", "50x100", "500x1000"})
+        public String size;
+
+        Farmer farmer;
+        Tile[] readyTiles;
+
+        /**
+         * Fills every free tile of a new farm with a turnip that is ready to harvest,
+         * since harvesting empties the tiles.
+         */
+        @Setup(Level.Invocation)
+        public void setUp() {
+            FarmEngine engine = BenchmarkFarms.createEmpty(this.size, BenchmarkFarms.SEED);
+            Board board = engine.getMyFarm().getBoard();
+            for(int row = 0; row < board.getRows(); row++) {
+                for(int col = 0; col < board.getColumns(); col++) {
+                    engine.plow(row, col);
+                    engine.plant(PlantList.TURNIP, row, col);
+                    engine.water(row, col);
+                }
+            }
+            engine.advanceDays(PlantList.TURNIP.getGrowingTimeDays());
+
+            ArrayList<Tile> tiles = new ArrayList<>();
+            for(int row = 0; row < board.getRows(); row++)
+                for(int col = 0; col < board.getColumns(); col++)
+                    if(board.getTile(row, col).getHasFullyGrownCrop())
+                        tiles.add(board.getTile(row, col));
+            this.farmer = engine.getMyFarm().getFarmer();
+            this.readyTiles = tiles.toArray(new Tile[0]);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ToolState {
+
+        @Param({"5x10", "50x100", "500x1000"})
+        public String size;
+
+        @Param({"PLOW", "WATERINGCAN", "FERTILIZER", "PICKAXE", "SHOVEL"})
+        public ToolType toolType;
+
+        FarmEngine engine;
+        Farmer farmer;
+        Tool tool;
+        Tile[] tiles;
+        int columns;
+        int nextTile;
+
+        /**
+         * Creates a farm whose every tile is one where the tool succeeds.
+         */
+        @Setup(Level.Trial)
+        public void setUp() {
+            this.engine = BenchmarkFarms.createEmpty(this.size, BenchmarkFarms.SEED);
+            Board board = this.engine.getMyFarm().getBoard();
+            this.farmer = this.engine.getMyFarm().getFarmer();
+            this.tool = this.toolType.getTool();
+            this.columns = board.getColumns();
+            this.tiles = new Tile[board.getRows() * this.columns];
+            for(int index = 0; index < this.tiles.length; index++) {
+                int row = index / this.columns;
+                int col = index % this.columns;
+                this.tiles[index] = board.getTile(row, col);
+                switch(this.toolType) {
+                    case WATERINGCAN, FERTILIZER -> {
+                        this.engine.plow(row, col);
+                        this.engine.plant(PlantList.TURNIP, row, col);
+                    }
+                    case PICKAXE, SHOVEL -> {
+                        this.tiles[index].setHasRock(true);
+                        this.tiles[index].setIsOccupied(true);
+                    }
+                    default -> { }
+                }
+            }
+            this.nextTile = 0;
+        }
+
+        /**
+         * Gets the index of the next tile, going through the farm lot in order.
+         * @return the index of the tile.
+         */
+        int nextTile() {
+            int index = this.nextTile;
+            this.nextTile = index + 1 == this.tiles.length ? 0 : index + 1;
+            return index;
+        }
+
+        /**
+         * Puts a tile back the way it was before the tool was used on it: a plowed
+         * tile is unplowed, and a broken rock is put back. The watering can, the
+         * fertilizer, and the shovel (on a rock) leave the flags of the tile as they are.
+         * @param tile the tile where the tool was used
+         */
+        void restore(Tile tile) {
+            switch(this.toolType) {
+                case PLOW -> tile.setIsPlowed(false);
+                case PICKAXE -> {
+                    tile.setHasRock(true);
+                    tile.setIsOccupied(true);
+                }
+                default -> { }
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public double harvestPlant(HarvestState state) {
+        double finalHarvestPrice = 0;
+        for(Tile tile : state.readyTiles)
+            finalHarvestPrice += state.farmer.harvestPlant(tile, tile.getCropPlanted())
+                                             .getFinalHarvestPrice();
+        return finalHarvestPrice;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public boolean useTool(ToolState state) {
+        Tile tile = state.tiles[state.nextTile()];
+        boolean success = state.farmer.useTool(state.tool, tile, tile.getCropPlanted());
+        state.restore(tile);
+        return success;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public int engineUseTool(ToolState state) {
+        int index = state.nextTile();
+        int row = index / state.columns;
+        int col = index % state.columns;
+        int result = switch(state.toolType) {
+            case PLOW -> state.engine.plow(row, col);
+            case WATERINGCAN -> state.engine.water(row, col);
+            case FERTILIZER -> state.engine.fertilize(row, col);
+            case PICKAXE -> state.engine.pickaxe(row, col);
+            case SHOVEL -> state.engine.shovel(row, col);
+        };
+        state.restore(state.tiles[index]);
+        return result;
+    }
+}
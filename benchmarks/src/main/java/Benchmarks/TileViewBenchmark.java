@@ -0,0 +1,126 @@
+package Benchmarks;
+
+import Model.Board;
+import Model.Tile;
+import View.SpriteCache;
+import View.TileView;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of redrawing a tile of the farm lot. MyFarmGUI.setTile only renders the
+ * tile on its tile view, and a MyFarmGUI cannot be created without a display (it
+ * asks for the player's name first), so the tile views are measured on their own.
+ * Each pass over the farm lot renders the tiles of one of two different farms, so
+ * most renders swap the sprite of the tile.
+ * <p>
+ *     This is also the soak test of the tile views: after millions of renders, the
+ *     number of components of every tile view must still be the same, and every
+ *     sprite must have been read only once. The run fails if either does not hold.
+ *     The sprites are read from the sprites folder of the working directory, so the
+ *     benchmark is run from the root of the repository.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class TileViewBenchmark {
+
+    @Param({"5x10", "50x100"})
+    public String size;
+
+    private SpriteCache sprites;
+    private TileView[] tileViews;
+    private Tile[][] farmTiles;
+    private int componentCount;
+    private int nextTile;
+    private int nextFarm;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        if(!new File("sprites").isDirectory())
+            throw new IllegalStateException("The sprites folder was not found; " +
+                                            "run the benchmarks from the root of the repository");
+
+        // the tiles of two different farms of the same size
+        this.farmTiles = new Tile[2][];
+        for(int farm = 0; farm < this.farmTiles.length; farm++) {
+            Board board = BenchmarkFarms.createPopulated(this.size, BenchmarkFarms.SEED + farm)
+                                        .getMyFarm().getBoard();
+            this.farmTiles[farm] = new Tile[board.getRows() * board.getColumns()];
+            for(int index = 0; index < this.farmTiles[farm].length; index++)
+                this.farmTiles[farm][index] = board.getTile(index / board.getColumns(),
+                                                            index % board.getColumns());
+        }
+
+        // the tile views, drawn with the tiles of the first farm
+        this.sprites = new SpriteCache();
+        this.tileViews = new TileView[this.farmTiles[0].length];
+        for(int index = 0; index < this.tileViews.length; index++) {
+            this.tileViews[index] = new TileView(this.sprites);
+            this.tileViews[index].render(this.farmTiles[0][index]);
+        }
+        this.componentCount = countComponents(this.tileViews);
+        this.nextTile = 0;
+        this.nextFarm = 1;
+    }
+
+    @Benchmark
+    public TileView setTile() throws IOException {
+        int index = this.nextTile;
+        TileView tileView = this.tileViews[index];
+        tileView.render(this.farmTiles[this.nextFarm][index]);
+
+        // go to the other farm after each pass over the farm lot
+        if(index + 1 == this.tileViews.length) {
+            this.nextTile = 0;
+            this.nextFarm = 1 - this.nextFarm;
+        } else {
+            this.nextTile = index + 1;
+        }
+        return tileView;
+    }
+
+    @TearDown(Level.Trial)
+    public void checkTileViews() {
+        int currentCount = countComponents(this.tileViews);
+        if(currentCount != this.componentCount)
+            throw new IllegalStateException("The tile views had " + this.componentCount +
+                                            " components, but now have " + currentCount);
+        if(this.sprites.getMissCount() != this.sprites.getSize())
+            throw new IllegalStateException("The sprite cache read " + this.sprites.getMissCount() +
+                                            " files for " + this.sprites.getSize() + " sprites");
+    }
+
+    /**
+     * Counts the components of the tile views, including the tile views themselves.
+     * @param tileViews the tile views
+     * @return the number of components.
+     */
+    static int countComponents(TileView[] tileViews) {
+        int count = 0;
+        for(TileView tileView : tileViews)
+            count += countComponents(tileView);
+        return count;
+    }
+
+    /**
+     * Counts a component and every component inside it.
+     * @param component the component
+     * @return the number of components.
+     */
+    private static int countComponents(Component component) {
+        int count = 1;
+        if(component instanceof Container container)
+            for(Component child : container.getComponents())
+                count += countComponents(child);
+        return count;
+    }
+}
@@ -0,0 +1,140 @@
+package Benchmarks;
+
+import Model.Board;
+import Model.FarmEngine;
+import Model.FarmRandom;
+import Model.Plants.PlantList;
+import View.SpriteCache;
+import View.TileView;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Soak benchmark of playing the game with the farm lot on screen. Each invocation
+ * does 10,000 actions through the engine, and after every action redraws the changed
+ * tiles the way Controller.updateView does through MyFarmGUI.setTile. A MyFarmGUI
+ * cannot be created without a display (it asks for the player's name first), so its
+ * tile views are used directly.
+ * <p>
+ *     The heap in use after a full garbage collection is measured after every
+ *     iteration. The last warmup iteration gives the baseline, once the sprites were
+ *     loaded, and the run fails if the heap grows by more than 256 KB over the
+ *     measured iterations (50,000 actions), or if the tile views end up with more
+ *     components than they started with. The sprites are read from the
+ *     sprites folder of the working directory, so the benchmark is run from the root
+ *     of the repository.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class TileViewSoakBenchmark {
+
+    // number of actions of each invocation
+    private static final int ACTION_COUNT = 10_000;
+
+    // growth of the heap allowed over the measured iterations
+    private static final long HEAP_SLACK = 256L << 10;
+
+    @Param({"5x10", "50x100"})
+    public String size;
+
+    private FarmEngine engine;
+    private FarmRandom random;
+    private TileView[] tileViews;
+    private int componentCount;
+    private long baselineUsedHeap;
+    private long lastUsedHeap;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        if(!new File("sprites").isDirectory())
+            throw new IllegalStateException("The sprites folder was not found; " +
+                                            "run the benchmarks from the root of the repository");
+
+        this.engine = BenchmarkFarms.createPopulated(this.size, BenchmarkFarms.SEED);
+        this.random = new FarmRandom(BenchmarkFarms.SEED);
+
+        // the tile views, drawn with the tiles of the farm
+        SpriteCache sprites = new SpriteCache();
+        Board board = this.engine.getMyFarm().getBoard();
+        this.tileViews = new TileView[board.getRows() * board.getColumns()];
+        for(int index = 0; index < this.tileViews.length; index++) {
+            this.tileViews[index] = new TileView(sprites);
+            this.tileViews[index].render(board.getTile(index / board.getColumns(),
+                                                       index % board.getColumns()));
+        }
+        board.clearDirtyTiles();
+        this.componentCount = TileViewBenchmark.countComponents(this.tileViews);
+    }
+
+    @Benchmark
+    public int playActions() throws IOException {
+        Board board = this.engine.getMyFarm().getBoard();
+        int rows = board.getRows();
+        int columns = board.getColumns();
+        for(int action = 0; action < ACTION_COUNT; action++) {
+            int row = this.random.nextInt(0, rows);
+            int col = this.random.nextInt(0, columns);
+            switch(this.random.nextInt(0, 10)) {
+                case 0, 1 -> this.engine.plow(row, col);
+                case 2, 3 -> this.engine.plant(PlantList.TURNIP, row, col);
+                case 4, 5 -> this.engine.water(row, col);
+                case 6 -> this.engine.fertilize(row, col);
+                case 7 -> this.engine.harvest(row, col);
+                case 8 -> this.engine.shovel(row, col);
+                default -> this.engine.advanceDay();
+            }
+
+            // redraw the changed tiles, as the controller does after every action
+            BitSet dirtyTiles = board.getDirtyTiles();
+            for(int index = dirtyTiles.nextSetBit(0); index >= 0;
+                index = dirtyTiles.nextSetBit(index + 1))
+                this.tileViews[index].render(board.getTile(index / columns, index % columns));
+            board.clearDirtyTiles();
+        }
+        return board.getGrowingCropCount();
+    }
+
+    @TearDown(Level.Iteration)
+    public void measureHeap(IterationParams iteration) {
+        long usedHeap = getUsedHeap();
+        if(iteration.getType() == IterationType.WARMUP)
+            this.baselineUsedHeap = usedHeap;
+        else
+            this.lastUsedHeap = usedHeap;
+    }
+
+    @TearDown(Level.Trial)
+    public void checkSoak() {
+        int currentCount = TileViewBenchmark.countComponents(this.tileViews);
+        if(currentCount != this.componentCount)
+            throw new IllegalStateException("The tile views had " + this.componentCount +
+                                            " components, but now have " + currentCount);
+        if(this.lastUsedHeap - this.baselineUsedHeap > HEAP_SLACK)
+            throw new IllegalStateException("The heap in use grew from " + this.baselineUsedHeap +
+                                            " to " + this.lastUsedHeap + " bytes");
+    }
+
+    /**
+     * Gets the size of the heap in use after a full garbage collection.
+     * @return the heap in use, in bytes.
+     */
+    private static long getUsedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for(int i = 0; i < 3; i++)
+            memory.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
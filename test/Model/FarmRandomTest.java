@@ -0,0 +1,53 @@
+package Model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the random source of a farm.
+ */
+class FarmRandomTest {
+
+    @Test
+    void splitsGiveTheSameNumbersAsSplittableRandom() {
+        for(long seed = 0; seed < 20; seed++) {
+            FarmRandom random = new FarmRandom(seed);
+            SplittableRandom expected = new SplittableRandom(seed);
+            for(int split = 0; split < 10; split++) {
+                FarmRandom splitRandom = random.split();
+                SplittableRandom expectedSplit = expected.split();
+                for(int i = 0; i < 10; i++)
+                    assertEquals(expectedSplit.nextLong(), splitRandom.nextLong(),
+                                 "seed " + seed + ", split " + split);
+                assertEquals(expected.nextLong(), random.nextLong(), "seed " + seed);
+            }
+        }
+    }
+
+    @Test
+    void splitsHaveDifferentGammas() {
+        FarmRandom random = new FarmRandom(42);
+        HashSet<Long> gammas = new HashSet<>();
+        for(int split = 0; split < 1000; split++) {
+            long gamma = random.split().getGamma();
+            assertEquals(1, gamma & 1);
+            gammas.add(gamma);
+        }
+        assertEquals(1000, gammas.size());
+    }
+
+    @Test
+    void restoredSourceContinuesTheSameNumbers() {
+        FarmRandom random = new FarmRandom(7).split().split();
+        random.nextLong();
+        FarmRandom restored = new FarmRandom(random.getState(), random.getGamma());
+        for(int i = 0; i < 100; i++)
+            assertEquals(random.nextLong(), restored.nextLong());
+        assertTrue(restored.getGamma() != new FarmRandom(7).getGamma());
+    }
+}
@@ -0,0 +1,98 @@
+package Model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of saving a farm to a snapshot and loading it back.
+ */
+class FarmSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void loadedFarmIsTheSameAndPlaysTheSame() throws IOException {
+        for(long seed = 0; seed < 10; seed++) {
+            // a farm whose random source was split, so it has its own gamma
+            MyFarm myFarm = new MyFarm(7, 13, new FarmRandom(seed).split());
+            myFarm.getBoard().setInitialRocks(new ArrayList<>(List.of("1 1", "4 6")));
+            myFarm.getFarmer().setObjectCoins(1000);
+            FarmEngine original = new FarmEngine(myFarm);
+            Random random = new Random(seed);
+            for(int action = 0; action < 300; action++)
+                TestFarms.playRandomAction(original, random);
+
+            Path file = this.directory.resolve("farm-" + seed + ".farm");
+            FarmSnapshot.save(original.getMyFarm(), file);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            FarmSnapshot.write(original.getMyFarm(), Channels.newChannel(bytes));
+            assertArrayEquals(Files.readAllBytes(file), bytes.toByteArray());
+
+            // loaded, opened, and read from memory, the farm is the same
+            List<FarmEngine> copies = List.of(
+                    new FarmEngine(FarmSnapshot.load(file)),
+                    new FarmEngine(FarmSnapshot.open(file)),
+                    new FarmEngine(FarmSnapshot.read(Channels.newChannel(
+                            new ByteArrayInputStream(bytes.toByteArray())))));
+            String expected = TestFarms.describe(original.getMyFarm());
+            for(FarmEngine copy : copies) {
+                assertEquals(expected, TestFarms.describe(copy.getMyFarm()), "seed " + seed);
+                assertTrue(copy.getMyFarm().getBoard().verifyBoardStats());
+            }
+
+            // and it goes on the same way as the original with the same actions
+            long actionSeed = random.nextLong();
+            Random originalActions = new Random(actionSeed);
+            List<Random> copyActions = List.of(new Random(actionSeed), new Random(actionSeed),
+                                               new Random(actionSeed));
+            for(int action = 0; action < 300; action++) {
+                TestFarms.playRandomAction(original, originalActions);
+                for(int copy = 0; copy < copies.size(); copy++)
+                    TestFarms.playRandomAction(copies.get(copy), copyActions.get(copy));
+            }
+            expected = TestFarms.describe(original.getMyFarm());
+            for(FarmEngine copy : copies)
+                assertEquals(expected, TestFarms.describe(copy.getMyFarm()), "seed " + seed);
+        }
+    }
+
+    @Test
+    void invalidSnapshotIsRejected() throws IOException {
+        FarmEngine farmEngine = TestFarms.create(5, 10, 1, 1000);
+        TestFarms.playRandomAction(farmEngine, new Random(1));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        FarmSnapshot.write(farmEngine.getMyFarm(), Channels.newChannel(bytes));
+        byte[] snapshot = bytes.toByteArray();
+
+        byte[] truncated = Arrays.copyOf(snapshot, snapshot.length - 1);
+        assertThrows(EOFException.class, () -> FarmSnapshot.read(Channels.newChannel(
+                new ByteArrayInputStream(truncated))));
+
+        byte[] notSnapshot = snapshot.clone();
+        notSnapshot[0] ^= 1;
+        assertThrows(IOException.class, () -> FarmSnapshot.read(Channels.newChannel(
+                new ByteArrayInputStream(notSnapshot))));
+
+        Path file = this.directory.resolve("truncated.farm");
+        Files.write(file, truncated);
+        assertThrows(EOFException.class, () -> FarmSnapshot.open(file));
+    }
+}
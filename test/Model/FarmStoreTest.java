@@ -0,0 +1,140 @@
+package Model;
+
+import Model.Tools.ToolType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of recovering a saved game from its snapshot and its journal after a crash.
+ * A crash is made by taking the journal away from the engine without closing it, so
+ * the files are left as they were after the last action.
+ */
+class FarmStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoveredGameIsTheSameAfterACrash() throws IOException {
+        for(long seed = 0; seed < 10; seed++) {
+            Path gameDirectory = this.directory.resolve("game-" + seed);
+            FarmEngine farmEngine = TestFarms.create(5, 10, seed, 5000);
+            FarmStore farmStore = FarmStore.create(gameDirectory, farmEngine);
+            Random random = new Random(seed);
+            for(int action = 0; action < 500; action++) {
+                TestFarms.playRandomAction(farmEngine, random);
+                if(random.nextInt(150) == 0)
+                    farmStore.checkpoint();
+            }
+            crash(farmStore);
+
+            FarmStore recovered = FarmStore.recover(gameDirectory);
+            assertEquals(TestFarms.describe(farmEngine.getMyFarm()),
+                         TestFarms.describe(recovered.getMyFarm()), "seed " + seed);
+            assertTrue(recovered.getMyFarm().getBoard().verifyBoardStats());
+
+            // the recovered game goes on the same way, and is saved again
+            long actionSeed = random.nextLong();
+            Random actions = new Random(actionSeed);
+            Random recoveredActions = new Random(actionSeed);
+            for(int action = 0; action < 200; action++) {
+                TestFarms.playRandomAction(farmEngine, actions);
+                TestFarms.playRandomAction(recovered.getEngine(), recoveredActions);
+            }
+            recovered.close();
+            try(FarmStore recoveredAgain = FarmStore.recover(gameDirectory)) {
+                assertEquals(TestFarms.describe(farmEngine.getMyFarm()),
+                             TestFarms.describe(recoveredAgain.getMyFarm()), "seed " + seed);
+            }
+        }
+    }
+
+    @Test
+    void tornRecordAtTheEndIsIgnored() throws IOException {
+        FarmEngine farmEngine = TestFarms.create(5, 10, 1, 5000);
+        FarmStore farmStore = FarmStore.create(this.directory, farmEngine);
+        Random random = new Random(1);
+        for(int action = 0; action < 300; action++)
+            TestFarms.playRandomAction(farmEngine, random);
+        crash(farmStore);
+
+        // a record that was only partly written when the game crashed
+        Path journalFile = getJournalFile(this.directory);
+        byte[] tail = new byte[ActionJournal.RECORD_SIZE - 3];
+        random.nextBytes(tail);
+        Files.write(journalFile, tail, StandardOpenOption.APPEND);
+
+        try(FarmStore recovered = FarmStore.recover(this.directory)) {
+            assertEquals(TestFarms.describe(farmEngine.getMyFarm()),
+                         TestFarms.describe(recovered.getMyFarm()));
+        }
+    }
+
+    @Test
+    void batchCutShortIsNotReplayed() throws IOException {
+        FarmEngine farmEngine = TestFarms.create(5, 10, 2, 5000);
+        FarmStore farmStore = FarmStore.create(this.directory, farmEngine);
+        Random random = new Random(2);
+        for(int action = 0; action < 300; action++)
+            TestFarms.playRandomAction(farmEngine, random);
+        String beforeBatch = TestFarms.describe(farmEngine.getMyFarm());
+
+        // a batch whose last range record was cut short by the crash
+        long recordCount = farmEngine.getJournal().getRecordCount();
+        farmEngine.batchUseTool(ToolType.PLOW, 0, 0, 4, 9);
+        assertTrue(farmEngine.getJournal().getRecordCount() >= recordCount + 2);
+        crash(farmStore);
+        Path journalFile = getJournalFile(this.directory);
+        try(FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+
+        try(FarmStore recovered = FarmStore.recover(this.directory)) {
+            assertEquals(beforeBatch, TestFarms.describe(recovered.getMyFarm()));
+        }
+    }
+
+    @Test
+    void nothingToRecoverWithoutASavedGame() throws IOException {
+        assertNull(FarmStore.recover(this.directory.resolve("missing")));
+        assertNull(FarmStore.recover(this.directory));
+    }
+
+    /**
+     * Crashes a saved game: its engine stops appending to the journal, which is left
+     * as it is. The journal file is only closed, without writing anything more, so
+     * the test does not leak it.
+     * @param farmStore the saved game
+     * @throws IOException if the journal cannot be closed
+     */
+    private static void crash(FarmStore farmStore) throws IOException {
+        farmStore.getEngine().setJournal(null);
+        farmStore.close();
+    }
+
+    /**
+     * Gets the journal file of the current generation of a saved game.
+     * @param directory the directory of the saved game
+     * @return the journal file.
+     * @throws IOException if the directory cannot be read
+     */
+    private static Path getJournalFile(Path directory) throws IOException {
+        try(Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".journal"))
+                        .findFirst()
+                        .orElseThrow();
+        }
+    }
+}
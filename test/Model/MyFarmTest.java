@@ -0,0 +1,43 @@
+package Model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of advancing the days of a farm.
+ */
+class MyFarmTest {
+
+    @Test
+    void advanceDaysIsTheSameAsAdvancingEachDay() {
+        for(long seed = 0; seed < 20; seed++) {
+            FarmEngine stepped = TestFarms.create(5, 10, seed, 1000);
+            FarmEngine fastForwarded = TestFarms.create(5, 10, seed, 1000);
+            Random random = new Random(seed);
+            for(int round = 0; round < 30; round++) {
+                // the same actions on both farms, and then the same number of days
+                long actionSeed = random.nextLong();
+                Random steppedActions = new Random(actionSeed);
+                Random fastForwardedActions = new Random(actionSeed);
+                for(int action = 0; action < 20; action++) {
+                    TestFarms.playRandomAction(stepped, steppedActions);
+                    TestFarms.playRandomAction(fastForwarded, fastForwardedActions);
+                }
+
+                int days = random.nextInt(12);
+                for(int day = 0; day < days; day++)
+                    stepped.advanceDay();
+                fastForwarded.advanceDays(days);
+
+                assertEquals(TestFarms.describe(stepped.getMyFarm()),
+                             TestFarms.describe(fastForwarded.getMyFarm()),
+                             "seed " + seed + ", round " + round);
+                assertTrue(fastForwarded.getMyFarm().getBoard().verifyBoardStats());
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package Model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests of replaying a recorded game. A twin of the recorded farm does the same
+ * actions, but advances the days one at a time, so the farm at the start of every day
+ * is known.
+ */
+class ReplayEngineTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void seekingGivesTheFarmOfEveryDay() throws IOException {
+        Path snapshotFile = this.directory.resolve("game.farm");
+        Path journalFile = this.directory.resolve("game.journal");
+        FarmEngine recorded = TestFarms.create(5, 10, 3, 5000);
+        FarmSnapshot.save(recorded.getMyFarm(), snapshotFile);
+        FarmEngine twin = new FarmEngine(FarmSnapshot.load(snapshotFile));
+
+        // the farm at the start of each day, and at the end of the game
+        HashMap<Integer, String> days = new HashMap<>();
+        days.put(twin.getMyFarm().getCurrentDay(), TestFarms.describe(twin.getMyFarm()));
+        Random random = new Random(3);
+        try(ActionJournal journal = ActionJournal.create(journalFile, 0)) {
+            recorded.setJournal(journal);
+            while(recorded.getMyFarm().getCurrentDay() < 300) {
+                playSameActions(recorded, twin, random);
+
+                // some days are advanced many at a time, past the keyframes
+                int dayCount = random.nextInt(4) == 0 ? 2 + random.nextInt(12) : 1;
+                if(dayCount == 1)
+                    recorded.advanceDay();
+                else
+                    recorded.advanceDays(dayCount);
+                for(int day = 0; day < dayCount; day++) {
+                    twin.advanceDay();
+                    days.put(twin.getMyFarm().getCurrentDay(), TestFarms.describe(twin.getMyFarm()));
+                }
+            }
+            playSameActions(recorded, twin, random);
+            recorded.setJournal(null);
+        }
+        String end = TestFarms.describe(twin.getMyFarm());
+        assertEquals(end, TestFarms.describe(recorded.getMyFarm()));
+
+        for(int keyframeInterval : new int[]{1, 7, ReplayEngine.DEFAULT_KEYFRAME_INTERVAL}) {
+            ReplayEngine replay = ReplayEngine.open(snapshotFile, journalFile, keyframeInterval);
+            assertEquals(1, replay.getFirstDay());
+            assertEquals(recorded.getMyFarm().getCurrentDay(), replay.getLastDay());
+            assertEquals(end, TestFarms.describe(replay.getEngine().getMyFarm()));
+
+            // every day going forward, then going back, then at random
+            for(int day = replay.getFirstDay(); day <= replay.getLastDay(); day++)
+                assertEquals(days.get(day), TestFarms.describe(replay.seekToDay(day)), "day " + day);
+            for(int day = replay.getLastDay(); day >= replay.getFirstDay(); day--)
+                assertEquals(days.get(day), TestFarms.describe(replay.seekToDay(day)), "day " + day);
+            Random seeks = new Random(keyframeInterval);
+            for(int seek = 0; seek < 300; seek++) {
+                if(seek % 7 == 0)
+                    assertEquals(end, TestFarms.describe(replay.seekToEnd()));
+                int day = replay.getFirstDay() +
+                          seeks.nextInt(replay.getLastDay() - replay.getFirstDay() + 1);
+                assertEquals(days.get(day), TestFarms.describe(replay.seekToDay(day)), "day " + day);
+            }
+            assertEquals(end, TestFarms.describe(replay.seekToEnd()));
+        }
+    }
+
+    /**
+     * Does the same random actions on two farms, without advancing the day.
+     * @param recorded  the engine of the recorded farm
+     * @param twin      the engine of its twin
+     * @param random    the source of the actions
+     */
+    private static void playSameActions(FarmEngine recorded, FarmEngine twin, Random random) {
+        long actionSeed = random.nextLong();
+        Random recordedActions = new Random(actionSeed);
+        Random twinActions = new Random(actionSeed);
+        for(int action = random.nextInt(10); action > 0; action--) {
+            TestFarms.playRandomActionOnDay(recorded, recordedActions);
+            TestFarms.playRandomActionOnDay(twin, twinActions);
+        }
+    }
+}
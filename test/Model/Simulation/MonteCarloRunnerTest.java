@@ -0,0 +1,116 @@
+package Model.Simulation;
+
+import Model.FarmEngine;
+import Model.MyFarm;
+import Model.Strategies.GreedyTurnipStrategy;
+import Model.Strategies.Strategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests of the statistics gathered by the Monte Carlo runner.
+ */
+class MonteCarloRunnerTest {
+
+    // more games than a task plays, so that the games are divided into tasks
+    private static final int GAMES = 200;
+    private static final List<String> ROCKS = List.of("1 1", "2 3");
+
+    @Test
+    void sameSeedGivesSameStatsWhateverTheParallelism() {
+        String expected = null;
+        for(int parallelism : new int[] {1, 2, 4}) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                MonteCarloRunner runner = new MonteCarloRunner(5, 10, ROCKS, 30, pool);
+                SimulationStats stats = runner.run(GAMES, 42, new GreedyTurnipStrategy());
+                String actual = describe(stats);
+                if(expected == null)
+                    expected = actual;
+                assertEquals(expected, actual, "parallelism " + parallelism);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void totalsAddUpOverEveryGame() {
+        // keep the engine of every game to read its results once the games are over
+        Set<FarmEngine> engines = Collections.synchronizedSet(
+                Collections.newSetFromMap(new IdentityHashMap<>()));
+        Strategy strategy = new GreedyTurnipStrategy();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        SimulationStats stats;
+        try {
+            MonteCarloRunner runner = new MonteCarloRunner(5, 10, ROCKS, 30, pool);
+            stats = runner.runWith(GAMES, 7, farmEngine -> {
+                engines.add(farmEngine);
+                farmEngine.applyAll(strategy.planDay(farmEngine.getFarmView()));
+            });
+        } finally {
+            pool.shutdown();
+        }
+
+        double totalObjectCoins = 0.0d;
+        double minObjectCoins = Double.POSITIVE_INFINITY;
+        double maxObjectCoins = Double.NEGATIVE_INFINITY;
+        long totalDays = 0;
+        int maxDays = 0;
+        long totalLevel = 0;
+        int maxLevel = 0;
+        long[] outcomeCounts = new long[4];
+        for(FarmEngine farmEngine : engines) {
+            MyFarm myFarm = farmEngine.getMyFarm();
+            double objectCoins = myFarm.getFarmer().getObjectCoins();
+            totalObjectCoins += objectCoins;
+            minObjectCoins = Math.min(minObjectCoins, objectCoins);
+            maxObjectCoins = Math.max(maxObjectCoins, objectCoins);
+            totalDays += myFarm.getCurrentDay();
+            maxDays = Math.max(maxDays, myFarm.getCurrentDay());
+            totalLevel += myFarm.getFarmer().getLevel();
+            maxLevel = Math.max(maxLevel, myFarm.getFarmer().getLevel());
+            outcomeCounts[farmEngine.checkIfGameOver()]++;
+        }
+
+        assertEquals(GAMES, engines.size());
+        assertEquals(GAMES, stats.getGameCount());
+        assertEquals(totalObjectCoins / GAMES, stats.getMeanObjectCoins(), 1e-9);
+        assertEquals(minObjectCoins, stats.getMinObjectCoins());
+        assertEquals(maxObjectCoins, stats.getMaxObjectCoins());
+        assertEquals((double)totalDays / GAMES, stats.getMeanDaysSurvived());
+        assertEquals(maxDays, stats.getMaxDaysSurvived());
+        assertEquals((double)totalLevel / GAMES, stats.getMeanLevel());
+        assertEquals(maxLevel, stats.getMaxLevel());
+        for(int outcome = 0; outcome < outcomeCounts.length; outcome++)
+            assertEquals(outcomeCounts[outcome], stats.getOutcomeCount(outcome),
+                         "outcome " + outcome);
+    }
+
+    /**
+     * Describes all the statistics, with the exact values of the means.
+     * @param stats the statistics
+     * @return the description of the statistics.
+     */
+    private static String describe(SimulationStats stats) {
+        StringBuilder builder = new StringBuilder()
+                .append(stats.getGameCount()).append(' ')
+                .append(stats.getMeanObjectCoins()).append(' ')
+                .append(stats.getMinObjectCoins()).append(' ')
+                .append(stats.getMaxObjectCoins()).append(' ')
+                .append(stats.getMeanDaysSurvived()).append(' ')
+                .append(stats.getMaxDaysSurvived()).append(' ')
+                .append(stats.getMeanLevel()).append(' ')
+                .append(stats.getMaxLevel());
+        for(int outcome = 0; outcome < 4; outcome++)
+            builder.append(' ').append(stats.getOutcomeCount(outcome));
+        return builder.toString();
+    }
+}
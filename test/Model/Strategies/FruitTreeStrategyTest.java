@@ -0,0 +1,33 @@
+package Model.Strategies;
+
+import Model.ActionType;
+import Model.FarmAction;
+import Model.FarmRandom;
+import Model.FarmView;
+import Model.MyFarm;
+import Model.Plants.PlantList;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the plans of the fruit tree strategy.
+ */
+class FruitTreeStrategyTest {
+
+    @Test
+    void turnipIsPlantedOnTheCornerWhenNoTreeIsNext() {
+        // enough Objectcoins for turnips, but not for a mango tree and its fertilizer
+        MyFarm myFarm = new MyFarm(5, 10, new FarmRandom(1));
+        myFarm.getFarmer().setObjectCoins(50);
+
+        List<FarmAction> actions = new FruitTreeStrategy().planDay(new FarmView(myFarm));
+        assertTrue(actions.stream().noneMatch(action -> action.getType() == ActionType.PICKAXE));
+        assertTrue(actions.stream().anyMatch(action -> action.getType() == ActionType.PLANT &&
+                                                       action.getPlant() == PlantList.TURNIP &&
+                                                       action.getRow() == 0 && action.getCol() == 0),
+                   actions.toString());
+    }
+}
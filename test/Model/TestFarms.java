@@ -0,0 +1,117 @@
+package Model;
+
+import Model.Plants.Plant;
+import Model.Plants.PlantList;
+import Model.Tools.ToolType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * This class creates the farms used by the tests, plays random actions on them, and
+ * describes their whole state so that two farms can be compared.
+ */
+final class TestFarms {
+
+    private TestFarms() {
+    }
+
+    /**
+     * Creates a farm with a few rocks, whose farmer starts with the given Objectcoins.
+     * @param rows         the number of rows of the farm lot
+     * @param columns      the number of columns of the farm lot
+     * @param seed         the seed of the farm's random source
+     * @param objectCoins  the farmer's Objectcoins
+     * @return the engine of the new farm.
+     */
+    static FarmEngine create(int rows, int columns, long seed, double objectCoins) {
+        MyFarm myFarm = new MyFarm(rows, columns, new FarmRandom(seed));
+        myFarm.getBoard().setInitialRocks(new ArrayList<>(List.of("1 1", "2 3")));
+        myFarm.getFarmer().setObjectCoins(objectCoins);
+        return new FarmEngine(myFarm);
+    }
+
+    /**
+     * Does a random action on the farm: a tool use, planting, harvesting,
+     * registering, a batch of tool uses, or advancing the day.
+     * @param engine  the engine of the farm
+     * @param random  the source of the actions
+     */
+    static void playRandomAction(FarmEngine engine, Random random) {
+        switch(random.nextInt(16)) {
+            case 13 -> engine.advanceDays(1 + random.nextInt(4));
+            case 14, 15 -> engine.advanceDay();
+            default -> playRandomActionOnDay(engine, random);
+        }
+    }
+
+    /**
+     * Does a random action on the farm that does not advance the day: a tool use,
+     * planting, harvesting, registering, or a batch of tool uses.
+     * @param engine  the engine of the farm
+     * @param random  the source of the actions
+     */
+    static void playRandomActionOnDay(FarmEngine engine, Random random) {
+        int rows = engine.getMyFarm().getMAXROWS();
+        int columns = engine.getMyFarm().getMAXCOLUMNS();
+        int row = random.nextInt(rows);
+        int col = random.nextInt(columns);
+        switch(random.nextInt(13)) {
+            case 0, 1 -> engine.plow(row, col);
+            case 2, 3 -> engine.water(row, col);
+            case 4 -> engine.fertilize(row, col);
+            case 5 -> engine.pickaxe(row, col);
+            case 6 -> engine.shovel(row, col);
+            case 7, 8, 9 -> engine.plant(PlantList.values()[random.nextInt(PlantList.values().length)],
+                                         row, col);
+            case 10 -> engine.harvest(row, col);
+            case 11 -> engine.register(FarmerType.values()[random.nextInt(FarmerType.values().length)]);
+            default -> engine.batchUseTool(ToolType.values()[random.nextInt(ToolType.values().length)],
+                                           row, col, random.nextInt(rows), random.nextInt(columns));
+        }
+    }
+
+    /**
+     * Describes the whole state of a farm: every tile and crop, the board stats, the
+     * farmer, the day, and the state of the random source.
+     * @param myFarm the farm
+     * @return the description of the farm.
+     */
+    static String describe(MyFarm myFarm) {
+        Board board = myFarm.getBoard();
+        Farmer farmer = myFarm.getFarmer();
+        StringBuilder description = new StringBuilder();
+        description.append("day ").append(myFarm.getCurrentDay())
+                   .append(", elapsed ").append(board.getDaysElapsed())
+                   .append(", random ").append(myFarm.getRandom().getState())
+                   .append(' ').append(myFarm.getRandom().getGamma())
+                   .append(", farmer ").append(farmer.getType()).append(' ').append(farmer.getLevel())
+                   .append(' ').append(farmer.getExperience()).append(' ').append(farmer.getObjectCoins())
+                   .append(", stats ").append(board.getRocksCount()).append('/')
+                   .append(board.getPlowedTilesCount()).append('/').append(board.getGrowingCropCount())
+                   .append('/').append(board.getFullyGrownCropCount()).append('/')
+                   .append(board.getWitheredCropCount()).append('\n');
+        for(int row = 0; row < board.getRows(); row++) {
+            for(int col = 0; col < board.getColumns(); col++) {
+                Tile tile = board.getTile(row, col);
+                description.append(tile.getStatus()).append(tile.getIsOccupied() ? 'o' : '-')
+                           .append(tile.getIsPlowed() ? 'p' : '-').append(tile.getHasRock() ? 'r' : '-')
+                           .append(board.canPlantFruit(row, col) ? 'f' : '-');
+                Plant plant = tile.getCropPlanted();
+                if(plant != null)
+                    description.append('[').append(plant.getName()).append(' ')
+                               .append(plant.getPlantedDay()).append(' ').append(plant.getRandomSeed())
+                               .append(' ').append(plant.getCurrentGrowthDays()).append(' ')
+                               .append(plant.getWateredCount()).append(' ')
+                               .append(plant.getFertilizedCount()).append(' ')
+                               .append(plant.getIsReadyToHarvest()).append(' ')
+                               .append(plant.getIsWithered()).append(' ')
+                               .append(plant.getProductsProduced()).append(']');
+                description.append(' ');
+            }
+            description.append('\n');
+        }
+        return description.toString();
+    }
+}
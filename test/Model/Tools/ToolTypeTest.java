@@ -0,0 +1,122 @@
+package Model.Tools;
+
+import Model.FarmEngine;
+import Model.FarmRandom;
+import Model.Farmer;
+import Model.MyFarm;
+import Model.Plants.PlantList;
+import Model.Tile;
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests of the shared tools of ToolType: each type has its own tool, and using the
+ * tools allocates nothing once the code is warmed up. The bytes allocated by the test thread are counted around many actions,
+ * and a few bytes in total are allowed for the measurement itself.
+ */
+class ToolTypeTest {
+
+    // number of rounds of actions that are measured, after as many to warm up
+    private static final int ROUND_COUNT = 100_000;
+
+    private ThreadMXBean threads;
+    private MyFarm myFarm;
+    private FarmEngine farmEngine;
+
+    @BeforeEach
+    void setUp() {
+        this.threads = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+        assumeTrue(this.threads.isThreadAllocatedMemorySupported());
+        this.threads.setThreadAllocatedMemoryEnabled(true);
+
+        // a growing mango tree to water and fertilize, and enough Objectcoins for
+        // every action
+        this.myFarm = new MyFarm(5, 10, new FarmRandom(1));
+        this.farmEngine = new FarmEngine(this.myFarm);
+        this.myFarm.getFarmer().setObjectCoins(1e12);
+        assertEquals(1, this.farmEngine.plow(2, 2));
+        assertEquals(3, this.farmEngine.plant(PlantList.MANGO, 2, 2));
+    }
+
+    @Test
+    void everyTypeHasItsOwnSharedTool() {
+        for(ToolType type : ToolType.values()) {
+            assertEquals(type, type.getTool().getType());
+            assertSame(type.getTool(), type.getTool());
+        }
+    }
+
+    @Test
+    void farmerUsesToolsWithoutAllocating() {
+        Farmer farmer = this.myFarm.getFarmer();
+        Tile cropTile = this.myFarm.getBoard().getTile(2, 2);
+        Tile tile = this.myFarm.getBoard().getTile(0, 0);
+        Tile rockTile = this.myFarm.getBoard().getTile(4, 9);
+
+        // every use succeeds: the tile is shoveled and plowed, and then reset, and the
+        // rock is put back
+        Runnable round = () -> {
+            int failures = 0;
+            failures += farmer.useTool(ToolType.SHOVEL.getTool(), tile, null) ? 0 : 1;
+            failures += farmer.useTool(ToolType.PLOW.getTool(), tile, null) ? 0 : 1;
+            tile.setIsPlowed(false);
+            failures += farmer.useTool(ToolType.WATERINGCAN.getTool(), cropTile,
+                                       cropTile.getCropPlanted()) ? 0 : 1;
+            failures += farmer.useTool(ToolType.FERTILIZER.getTool(), cropTile,
+                                       cropTile.getCropPlanted()) ? 0 : 1;
+            rockTile.setHasRock(true);
+            rockTile.setIsOccupied(true);
+            failures += farmer.useTool(ToolType.PICKAXE.getTool(), rockTile, null) ? 0 : 1;
+            assertEquals(0, failures);
+        };
+        assertNoAllocation(round, 5);
+    }
+
+    @Test
+    void engineUsesToolsWithoutAllocating() {
+        Tile tile = this.myFarm.getBoard().getTile(0, 0);
+        Tile rockTile = this.myFarm.getBoard().getTile(4, 9);
+
+        // every action succeeds: the tile is shoveled and plowed, and then reset, and
+        // the rock is put back
+        Runnable round = () -> {
+            int failures = 0;
+            failures += this.farmEngine.shovel(0, 0) == 2 ? 0 : 1;
+            failures += this.farmEngine.plow(0, 0) == 1 ? 0 : 1;
+            tile.setIsPlowed(false);
+            failures += this.farmEngine.water(2, 2) == 1 ? 0 : 1;
+            failures += this.farmEngine.fertilize(2, 2) == 1 ? 0 : 1;
+            rockTile.setHasRock(true);
+            rockTile.setIsOccupied(true);
+            failures += this.farmEngine.pickaxe(4, 9) == 1 ? 0 : 1;
+            assertEquals(0, failures);
+        };
+        assertNoAllocation(round, 5);
+    }
+
+    /**
+     * Checks that the given round of actions allocates no bytes per action.
+     * @param round        the round of actions
+     * @param actionCount  the number of actions of a round
+     */
+    private void assertNoAllocation(Runnable round, int actionCount) {
+        for(int i = 0; i < ROUND_COUNT; i++)
+            round.run();
+
+        long threadId = Thread.currentThread().getId();
+        long before = this.threads.getThreadAllocatedBytes(threadId);
+        for(int i = 0; i < ROUND_COUNT; i++)
+            round.run();
+        long allocated = this.threads.getThreadAllocatedBytes(threadId) - before;
+
+        long actions = (long)ROUND_COUNT * actionCount;
+        assertEquals(0, allocated / actions, allocated + " bytes allocated by " + actions + " actions");
+    }
+}